@@ -1,27 +1,39 @@
 package com.app.gradationback.aspect.sepect;
 
 import com.app.gradationback.exception.*;
+import com.app.gradationback.storage.StorageService;
+import com.app.gradationback.storage.StoredFile;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.FileCopyUtils;
 
-import java.io.File;
 import java.nio.file.NoSuchFileException;
 import java.sql.SQLException;
 import java.sql.SQLSyntaxErrorException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Aspect
 @Configuration
 @Slf4j
+@RequiredArgsConstructor
 public class ExceptionResponseAspect {
+
+//    이미지가 없을 때 대신 보여줄 이미지 (저장소에서 Resource 로 스트리밍)
+    private static final String NO_SUCH_FILE_PATH = "images/exception";
+    private static final String NO_SUCH_FILE_NAME = "no_such_file.jpg";
+
+    private final StorageService storageService;
+
     @Around("@annotation(com.app.gradationback.aspect.annotation.ExceptionResponse)")
     public Object handleExceptionAndRespond(ProceedingJoinPoint joinPoint) throws Throwable{
         Map<String, Object> response = new HashMap<>();
@@ -36,7 +48,15 @@ public class ExceptionResponseAspect {
         try {
             return joinPoint.proceed();
         }catch (ImageFileException noSuchFileException) {
-            return FileCopyUtils.copyToByteArray(new File("c:/upload/images/exception/no_such_file.jpg"));
+            Optional<StoredFile> noSuchFile = storageService.find(NO_SUCH_FILE_PATH, NO_SUCH_FILE_NAME);
+            if (noSuchFile.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+//            원본 파일이 나중에 생길 수 있으므로 대체 이미지는 캐시하지 않음
+            return ResponseEntity.ok()
+                    .contentType(MediaType.IMAGE_JPEG)
+                    .cacheControl(CacheControl.noCache())
+                    .body(noSuchFile.get().resource());
         }catch (AuctionException auctionException) {
             response.put("message", "경매 API 응답 실패");
             response.put("error", auctionException.getMessage());
@@ -53,6 +73,10 @@ public class ExceptionResponseAspect {
             response.put("message", "배송 API 응답 실패");
             response.put("error", deliveryException.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }catch (MailException mailException) {
+            response.put("message", "쪽지 API 응답 실패");
+            response.put("error", mailException.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
         }catch (Exception e) {
             response.put("message", "알수 없는 오류");
             response.put("error", e.getMessage());
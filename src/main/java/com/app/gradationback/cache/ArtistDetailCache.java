@@ -0,0 +1,50 @@
+package com.app.gradationback.cache;
+
+import com.app.gradationback.domain.ArtImgVO;
+import com.app.gradationback.domain.ArtistDetailDTO;
+import com.app.gradationback.domain.HistoryVO;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 작가 상세(프로필 + 이력) 캐시, userId 별
+// 호출하는 쪽에서 값을 바꿔도 캐시에 영향이 없도록 복사본을 반환
+@Component
+public class ArtistDetailCache extends TtlCache<Long, ArtistDetailDTO> {
+
+    public ArtistDetailCache(@Value("${cache.artist-detail.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${cache.artist-detail.max-size:1000}") int maxSize) {
+        super(ttlSeconds * 1000, maxSize);
+    }
+
+    @Override
+    public ArtistDetailDTO get(Long userId, Function<Long, ArtistDetailDTO> loader) {
+        return copy(super.get(userId, loader));
+    }
+
+    private static ArtistDetailDTO copy(ArtistDetailDTO source) {
+        if (source == null) {
+            return null;
+        }
+        ArtistDetailDTO target = new ArtistDetailDTO();
+        BeanUtils.copyProperties(source, target, "historyList", "artImgList");
+        if (source.getHistoryList() != null) {
+            target.setHistoryList(source.getHistoryList().stream().map(history -> {
+                HistoryVO historyVO = new HistoryVO();
+                BeanUtils.copyProperties(history, historyVO);
+                return historyVO;
+            }).toList());
+        }
+        if (source.getArtImgList() != null) {
+            target.setArtImgList(source.getArtImgList().stream().map(artImg -> {
+                ArtImgVO artImgVO = new ArtImgVO();
+                BeanUtils.copyProperties(artImg, artImgVO);
+                return artImgVO;
+            }).toList());
+        }
+        return target;
+    }
+}
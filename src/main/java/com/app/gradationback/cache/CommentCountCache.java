@@ -0,0 +1,106 @@
+package com.app.gradationback.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 게시글(ART_POST_ID)별 댓글 수 캐시
+// 조회 시 없으면 DB에서 읽어 채우고, 작성/삭제 시 커밋 후 증감, 일괄 삭제 시 무효화
+// 다른 서버에서 바뀐 값도 맞춰지도록 일정 시간이 지나면 다시 조회
+@Component
+public class CommentCountCache {
+
+//    loadVersion : 조회를 시작할 때의 버전
+    private record Entry(AtomicInteger count, long loadVersion, long expiresAt) {}
+
+    private final Map<Long, Entry> counts = new ConcurrentHashMap<>();
+
+//    쓰기 시작(커밋 전), 무효화 시 증가 -> 그 전에 시작한 조회 결과는 저장하지 않음
+    private final AtomicLong version = new AtomicLong();
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public CommentCountCache(@Value("${cache.comment-count.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${cache.comment-count.max-size:10000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+    }
+
+    public Integer get(Long postId, Supplier<Integer> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = counts.get(postId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.count().get();
+        }
+
+        long loadVersion = version.get();
+        Integer loaded = loader.get();
+        if (loaded != null && loadVersion == version.get()) {
+            evictIfFull();
+            counts.merge(postId, new Entry(new AtomicInteger(loaded), loadVersion, now + ttlMillis),
+                    (current, loadedEntry) -> current.expiresAt() > now ? current : loadedEntry);
+        }
+        return loaded;
+    }
+
+//    댓글 작성/삭제 전에 호출 (트랜잭션 안, 커밋 전)
+//    반환한 버전을 커밋 후 increase/decrease 에 넘김
+    public long beginWrite() {
+        return version.incrementAndGet();
+    }
+
+    public void increase(Long postId, long writeVersion) {
+        adjust(postId, writeVersion, 1);
+    }
+
+    public void decrease(Long postId, long writeVersion) {
+        adjust(postId, writeVersion, -1);
+    }
+
+    public void invalidate(Long postId) {
+        version.incrementAndGet();
+        counts.remove(postId);
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        counts.clear();
+    }
+
+//    쓰기 시작 전에 조회한 값이면 커밋된 변경을 반영
+//    쓰기 시작 후에 조회한 값은 변경이 이미 포함되었는지 알 수 없으므로 버리고 다음 조회에서 다시 읽음
+    private void adjust(Long postId, long writeVersion, int delta) {
+        Entry entry = counts.get(postId);
+        if (entry == null) {
+            return;
+        }
+        if (entry.loadVersion() >= writeVersion) {
+            counts.remove(postId, entry);
+            return;
+        }
+        entry.count().updateAndGet(current -> Math.max(0, current + delta));
+    }
+
+    private void evictIfFull() {
+        if (counts.size() < maxSize) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        counts.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (counts.size() < maxSize) {
+            return;
+        }
+        Iterator<Long> iterator = counts.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
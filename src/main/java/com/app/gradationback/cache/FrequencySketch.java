@@ -0,0 +1,64 @@
+package com.app.gradationback.cache;
+
+// TinyLFU 접근 빈도 추정 (count-min sketch, 4비트 카운터 최대 15)
+// 일정 횟수마다 전체를 절반으로 줄여서 예전에 많이 쓰인 항목이 계속 남지 않도록 함
+// 동기화는 사용하는 쪽에서 처리
+final class FrequencySketch {
+
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x97cb3127, 0xb6a8d3cf, 0x5a3c9b21, 0xe1f2a3b7};
+
+    private final byte[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int expectedEntries) {
+        int size = Integer.highestOneBit(Math.max(16, expectedEntries * 8) - 1) << 1;
+        this.table = new byte[size];
+        this.mask = size - 1;
+        this.sampleSize = Math.max(expectedEntries, 16) * 10;
+    }
+
+    int frequency(String key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int seed : SEEDS) {
+            frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+        }
+        return frequency;
+    }
+
+    void increment(String key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int seed : SEEDS) {
+            int index = indexOf(hash, seed);
+            if (table[index] < MAX_COUNT) {
+                table[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (byte) (table[i] >>> 1);
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(int hash, int seed) {
+        int h = (hash ^ seed) * 0x9E3779B9;
+        h ^= h >>> 16;
+        return h & mask;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x85ebca6b;
+        return h ^ (h >>> 13);
+    }
+}
@@ -0,0 +1,56 @@
+package com.app.gradationback.cache;
+
+import com.app.gradationback.domain.ExhibitionPastDTO;
+import com.app.gradationback.domain.GradationExhibitionImgVO;
+import com.app.gradationback.domain.GradationExhibitionVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// 졸업 전시회 캐시 (현재 전시회 + 이미지, 최근 3개, 지난 전시회 목록)
+// 관리자가 전시회/이미지를 등록, 수정, 삭제할 때 무효화 후 다음 조회에서 다시 채움
+// 최근, 지난 전시회 목록은 다른 서버에서 수정된 경우에 대비해 만료 시간을 둠
+@Component
+public class GradationExhibitionCache {
+
+//    현재 전시회와 그 이미지를 한 번에 교체하기 위한 묶음
+    public record Bundle(Optional<GradationExhibitionVO> gradation, List<GradationExhibitionImgVO> images) {}
+
+    private static final String KEY = "gradation";
+
+    private final LazyReference<Bundle> current = new LazyReference<>();
+    private final TtlCache<String, List<GradationExhibitionVO>> recent;
+    private final TtlCache<String, List<ExhibitionPastDTO>> past;
+
+    public GradationExhibitionCache(@Value("${cache.gradation-exhibition.ttl-seconds:600}") long ttlSeconds) {
+        this.recent = new TtlCache<>(ttlSeconds * 1000, 1);
+        this.past = new TtlCache<>(ttlSeconds * 1000, 1);
+    }
+
+    public Bundle getCurrent(Supplier<Bundle> loader) {
+        return current.get(loader);
+    }
+
+    public List<GradationExhibitionVO> getRecent(Supplier<List<GradationExhibitionVO>> loader) {
+        return recent.get(KEY, key -> loader.get());
+    }
+
+    public List<ExhibitionPastDTO> getPast(Supplier<List<ExhibitionPastDTO>> loader) {
+        return past.get(KEY, key -> loader.get());
+    }
+
+//    이미지 변경
+    public void invalidateCurrent() {
+        current.invalidate();
+    }
+
+//    전시회 등록, 수정
+    public void invalidateAll() {
+        current.invalidate();
+        recent.invalidateAll();
+        past.invalidateAll();
+    }
+}
@@ -0,0 +1,256 @@
+package com.app.gradationback.cache;
+
+import com.app.gradationback.storage.StoredFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 자주 요청되는 작은 이미지(썸네일 등) 바이트 캐시 (저장소 경로/이름 기준)
+// 내용은 direct buffer 에 두어 힙/GC 에 영향이 없도록 하고, 전체 바이트 수로 크기를 제한
+// W-TinyLFU 방식 : 새 항목은 작은 window(LRU)에 들어가고, window 에서 밀려날 때
+// main(LRU) 에서 밀려날 항목보다 자주 쓰였을 때만 main 으로 들어감
+// 파일명이 내용 해시(또는 UUID)라 내용이 바뀌지 않으므로 만료 없음, 삭제 시에만 무효화
+// 조회(적중)는 잠금 없이 ConcurrentHashMap 에서 읽고, 접근 기록은 버퍼에 모았다가 잠금을 얻은 쪽이 한 번에 반영
+// 잠금은 미스(빈도 기록), 추가(admission/eviction), 삭제에서만 사용
+@Component
+public class ImageByteCache {
+
+    public record CachedImage(ByteBuffer bytes, long lastModified) {
+
+        public int weight() {
+            return bytes.capacity();
+        }
+
+        public Resource toResource(String fileName) {
+            return new ByteBufferResource(bytes, fileName, lastModified);
+        }
+    }
+
+    private final long maxBytes;
+    private final long windowMaxBytes;
+    private final long mainMaxBytes;
+    private final int maxEntryBytes;
+
+//    적중 기록 버퍼 (가득 차면 오래된 기록을 덮어씀 -> 빈도/순서는 근사값)
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int READ_DRAIN_THRESHOLD = 32;
+    private final AtomicReferenceArray<String> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readCount = new AtomicLong();
+
+//    조회용 (잠금 없이 읽음), window/main 은 LRU 순서와 무게 계산용 (잠금 안에서만 사용)
+    private final ConcurrentHashMap<String, CachedImage> data = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, CachedImage> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CachedImage> main = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowWeight;
+    private long mainWeight;
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder admissions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ImageByteCache(@Value("${cache.image.max-bytes:67108864}") long maxBytes,
+                          @Value("${cache.image.max-entry-bytes:262144}") int maxEntryBytes) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.windowMaxBytes = Math.max(maxEntryBytes, maxBytes / 100);
+        this.mainMaxBytes = Math.max(0, maxBytes - windowMaxBytes);
+//        썸네일 평균 16KB 기준으로 예상 항목 수 계산
+        this.sketch = new FrequencySketch((int) Math.min(1 << 20, Math.max(1024, maxBytes / 16384)));
+    }
+
+    public CachedImage get(String key) {
+        CachedImage image = data.get(key);
+        if (image != null) {
+            hits.increment();
+            recordRead(key);
+            return image;
+        }
+
+//        미스는 저장소에서 읽게 되므로 잠금을 잡고 바로 기록 (shouldLoad 가 이번 요청까지 세도록)
+        misses.increment();
+        lock.lock();
+        try {
+            drainReadBuffer();
+            sketch.increment(key);
+        } finally {
+            lock.unlock();
+        }
+        return null;
+    }
+
+//    작은 파일이고 두 번 이상 요청된 경우만 캐시 (한 번만 보이는 파일로 window 가 밀리지 않도록)
+    public boolean shouldLoad(String key, long size) {
+        if (size <= 0 || size > maxEntryBytes) {
+            return false;
+        }
+        lock.lock();
+        try {
+            drainReadBuffer();
+            return sketch.frequency(key) >= 2;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+//    저장소에서 읽어 direct buffer 로 복사한 뒤 캐시에 추가
+    public CachedImage load(String key, StoredFile storedFile) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) storedFile.size());
+        try (InputStream in = storedFile.resource().getInputStream(); ReadableByteChannel channel = Channels.newChannel(in)) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽기
+            }
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("파일 크기가 일치하지 않습니다. : " + key);
+        }
+        buffer.flip();
+
+        CachedImage image = new CachedImage(buffer.asReadOnlyBuffer(), storedFile.lastModified());
+        put(key, image);
+        return image;
+    }
+
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            data.remove(key);
+            CachedImage removed = window.remove(key);
+            if (removed != null) {
+                windowWeight -= removed.weight();
+            }
+            removed = main.remove(key);
+            if (removed != null) {
+                mainWeight -= removed.weight();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            stats.put("entries", data.size());
+            stats.put("weightBytes", windowWeight + mainWeight);
+        } finally {
+            lock.unlock();
+        }
+        stats.put("maxBytes", maxBytes);
+        stats.put("hits", hitCount);
+        stats.put("misses", misses.sum());
+        stats.put("hitRate", requestCount == 0 ? 0.0 : (double) hitCount / requestCount);
+        stats.put("admissions", admissions.sum());
+        stats.put("rejections", rejections.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+//    적중 기록을 버퍼에 남기고, 일정 횟수마다 잠금을 얻을 수 있으면 반영 (얻지 못하면 다음 기회에)
+    private void recordRead(String key) {
+        long index = readCount.getAndIncrement();
+        readBuffer.lazySet((int) (index & (READ_BUFFER_SIZE - 1)), key);
+        if ((index & (READ_DRAIN_THRESHOLD - 1)) == READ_DRAIN_THRESHOLD - 1 && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+//    버퍼의 적중 기록을 빈도와 LRU 순서에 반영 (잠금 안에서 호출)
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            String key = readBuffer.getAndSet(i, null);
+            if (key == null) {
+                continue;
+            }
+            sketch.increment(key);
+//            access-order 이므로 조회하면 가장 최근으로 이동
+            if (window.get(key) == null) {
+                main.get(key);
+            }
+        }
+    }
+
+    private void put(String key, CachedImage image) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            if (window.containsKey(key) || main.containsKey(key)) {
+                return;
+            }
+            window.put(key, image);
+            windowWeight += image.weight();
+            data.put(key, image);
+
+            while (windowWeight > windowMaxBytes && !window.isEmpty()) {
+                Iterator<Map.Entry<String, CachedImage>> iterator = window.entrySet().iterator();
+                Map.Entry<String, CachedImage> candidate = iterator.next();
+                iterator.remove();
+                windowWeight -= candidate.getValue().weight();
+                if (!admit(candidate.getKey(), candidate.getValue())) {
+                    data.remove(candidate.getKey());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+//    main 에서 자리를 만들기 위해 밀려날 항목들보다 자주 쓰였을 때만 들어감
+    private boolean admit(String key, CachedImage candidate) {
+        int candidateFrequency = sketch.frequency(key);
+        List<String> victims = new ArrayList<>();
+        long freed = 0;
+
+        Iterator<Map.Entry<String, CachedImage>> iterator = main.entrySet().iterator();
+        while (mainWeight - freed + candidate.weight() > mainMaxBytes && iterator.hasNext()) {
+            Map.Entry<String, CachedImage> victim = iterator.next();
+            if (sketch.frequency(victim.getKey()) >= candidateFrequency) {
+                rejections.increment();
+                return false;
+            }
+            victims.add(victim.getKey());
+            freed += victim.getValue().weight();
+        }
+        if (mainWeight - freed + candidate.weight() > mainMaxBytes) {
+            rejections.increment();
+            return false;
+        }
+
+        for (String victim : victims) {
+            mainWeight -= main.remove(victim).weight();
+            data.remove(victim);
+            evictions.increment();
+        }
+        main.put(key, candidate);
+        mainWeight += candidate.weight();
+        admissions.increment();
+        return true;
+    }
+}
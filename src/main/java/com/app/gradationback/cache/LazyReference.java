@@ -0,0 +1,34 @@
+package com.app.gradationback.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 값 하나를 처음 조회할 때 만들어 두고, 무효화되면 다음 조회에서 다시 만드는 참조
+// 저장된 값은 통째로 교체만 하므로 읽는 쪽은 항상 완성된 값을 보게 됨
+public class LazyReference<T> {
+
+    private final AtomicReference<T> value = new AtomicReference<>();
+
+//    무효화가 일어나면 증가 -> 무효화 전에 시작한 조회 결과는 저장하지 않음
+    private final AtomicLong version = new AtomicLong();
+
+    public T get(Supplier<T> loader) {
+        T current = value.get();
+        if (current != null) {
+            return current;
+        }
+
+        long loadVersion = version.get();
+        T loaded = loader.get();
+        if (loaded != null && loadVersion == version.get()) {
+            value.compareAndSet(null, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        value.set(null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.gradationback.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 키별 만료 시간이 있는 간단한 메모리 캐시
+// 최대 개수를 넘으면 만료된 항목부터 정리하고, 그래도 넘으면 임의의 항목 하나를 제거
+public class TtlCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {}
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+//    무효화가 일어나면 증가 -> 무효화 전에 시작한 조회 결과는 저장하지 않음
+    private final AtomicLong version = new AtomicLong();
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public TtlCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+//    캐시에 없거나 만료되었으면 loader 로 조회 후 저장 (null 은 저장하지 않음)
+    public V get(K key, Function<K, V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.value();
+        }
+
+        long loadVersion = version.get();
+        V value = loader.apply(key);
+        if (value != null && loadVersion == version.get()) {
+            evictIfFull(now);
+            entries.put(key, new Entry<>(value, now + ttlMillis));
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        version.incrementAndGet();
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    private void evictIfFull(long now) {
+        if (entries.size() < maxSize) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (entries.size() < maxSize) {
+            return;
+        }
+        Iterator<K> iterator = entries.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.app.gradationback.cache;
+
+import com.app.gradationback.domain.UniversityExhibitionDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 대학 전시회 목록 캐시 (승인 완료 + 종료 전 전시회, 이미지 포함)
+// 로그인 사용자와 무관한 공용 데이터만 저장, 좋아요 여부와 전시 상태는 조회할 때마다 계산
+@Component
+public class UniversityExhibitionCache {
+
+    private static final String KEY = "university";
+
+//    전체 목록 + 지역(UNIVERSITY_REGION)별 목록
+    public record Snapshot(List<UniversityExhibitionDTO> universities,
+                           Map<String, List<UniversityExhibitionDTO>> regionIndex) {
+
+        public static Snapshot of(List<UniversityExhibitionDTO> universities) {
+            Map<String, List<UniversityExhibitionDTO>> regionIndex = universities.stream()
+                    .filter(university -> university.getUniversityRegion() != null)
+                    .collect(Collectors.groupingBy(UniversityExhibitionDTO::getUniversityRegion,
+                            Collectors.collectingAndThen(Collectors.toList(), List::copyOf)));
+            return new Snapshot(List.copyOf(universities), Map.copyOf(regionIndex));
+        }
+
+//        드롭다운 지역(예: 서울)으로 시작하는 지역의 전시회 (전체 목록과 같은 ID 순서)
+        public List<UniversityExhibitionDTO> findByRegion(String location) {
+            return regionIndex.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(location))
+                    .flatMap(entry -> entry.getValue().stream())
+                    .sorted(Comparator.comparing(UniversityExhibitionDTO::getId))
+                    .toList();
+        }
+    }
+
+    private final TtlCache<String, Snapshot> cache;
+
+    public UniversityExhibitionCache(@Value("${cache.university-exhibition.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = new TtlCache<>(ttlSeconds * 1000, 1);
+    }
+
+    public Snapshot get(Supplier<List<UniversityExhibitionDTO>> loader) {
+        return cache.get(KEY, key -> Snapshot.of(loader.get()));
+    }
+
+    public void invalidate() {
+        cache.invalidateAll();
+    }
+}
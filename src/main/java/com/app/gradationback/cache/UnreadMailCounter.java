@@ -0,0 +1,108 @@
+package com.app.gradationback.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 회원(RECEIVE_USER_ID)별 읽지 않은 알림 수
+// 처음 조회 시 DB에서 읽어 채우고, 알림 등록/읽음/삭제 시 커밋 후 증감
+// 일괄 삭제, 다른 서버의 변경 등으로 어긋난 값은 일정 시간이 지나면 DB 에서 다시 읽어 맞춤
+@Component
+public class UnreadMailCounter {
+
+//    loadVersion : 조회를 시작할 때의 버전
+    private record Entry(AtomicInteger count, long loadVersion, long expiresAt) {}
+
+    private final Map<Long, Entry> counts = new ConcurrentHashMap<>();
+
+//    쓰기 시작(커밋 전), 무효화 시 증가 -> 그 전에 시작한 조회 결과는 저장하지 않음
+    private final AtomicLong version = new AtomicLong();
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public UnreadMailCounter(@Value("${cache.unread-mail.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${cache.unread-mail.max-size:50000}") int maxSize) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+    }
+
+    public Integer get(Long userId, Supplier<Integer> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = counts.get(userId);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.count().get();
+        }
+
+        long loadVersion = version.get();
+        Integer loaded = loader.get();
+        if (loaded != null && loadVersion == version.get()) {
+            evictIfFull();
+            Entry stored = counts.merge(userId, new Entry(new AtomicInteger(loaded), loadVersion, now + ttlMillis),
+                    (current, loadedEntry) -> current.expiresAt() > now ? current : loadedEntry);
+            return stored.count().get();
+        }
+        return loaded;
+    }
+
+//    알림 등록/읽음/삭제 전에 호출 (트랜잭션 안, 커밋 전)
+//    반환한 버전을 커밋 후 increase/decrease 에 넘김
+    public long beginWrite() {
+        return version.incrementAndGet();
+    }
+
+//    증감 후 값 (캐시에 없거나 버린 경우 null -> 호출하는 쪽에서 다시 조회)
+    public Integer increase(Long userId, long writeVersion) {
+        return adjust(userId, writeVersion, 1);
+    }
+
+    public Integer decrease(Long userId, long writeVersion) {
+        return adjust(userId, writeVersion, -1);
+    }
+
+//    현재 버전 (DB 에서 직접 센 뒤, 그 사이 이 서버에서 쓰기가 있었는지 확인할 때 사용)
+    public long currentVersion() {
+        return version.get();
+    }
+
+    public void invalidate(Long userId) {
+        version.incrementAndGet();
+        counts.remove(userId);
+    }
+
+//    쓰기 시작 전에 조회한 값이면 커밋된 변경을 반영
+//    쓰기 시작 후에 조회한 값은 변경이 이미 포함되었는지 알 수 없으므로 버림
+    private Integer adjust(Long userId, long writeVersion, int delta) {
+        Entry entry = counts.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.loadVersion() >= writeVersion || entry.expiresAt() <= System.currentTimeMillis()) {
+            counts.remove(userId, entry);
+            return null;
+        }
+        return entry.count().updateAndGet(current -> Math.max(0, current + delta));
+    }
+
+    private void evictIfFull() {
+        if (counts.size() < maxSize) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        counts.values().removeIf(entry -> entry.expiresAt() <= now);
+        if (counts.size() < maxSize) {
+            return;
+        }
+        Iterator<Long> iterator = counts.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
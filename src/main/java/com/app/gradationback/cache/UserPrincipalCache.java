@@ -0,0 +1,17 @@
+package com.app.gradationback.cache;
+
+import com.app.gradationback.domain.UserVO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 인증된 사용자 정보 캐시, 아이디(identification) 별
+// 관리자 확인, 프로필 조회 때마다 DB 를 조회하지 않도록 짧게 보관 (비밀번호는 비운 상태로 저장)
+// 회원 정보, 정지, 권한이 바뀌면 무효화
+@Component
+public class UserPrincipalCache extends TtlCache<String, UserVO> {
+
+    public UserPrincipalCache(@Value("${cache.principal.ttl-ms:30000}") long ttlMillis,
+                              @Value("${cache.principal.max-size:10000}") int maxSize) {
+        super(ttlMillis, maxSize);
+    }
+}
@@ -0,0 +1,118 @@
+package com.app.gradationback.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 이메일별 인증코드 보관
+// 만료 시간이 지나거나 시도 횟수를 넘으면 무효
+// 최대 개수를 넘으면 가장 먼저 발급한 코드를 버림 (메모리 일정하게 유지, 가득 채워도 새 가입을 막지 못하도록)
+// 같은 이메일은 일정 시간 안에 다시 발급하지 않음 (메일 폭탄, 코드 덮어쓰기 방지)
+// 만료된 코드는 조회 시 바로 제거하고, 나머지는 주기적으로 정리
+@Component
+public class VerificationCodeStore {
+
+//    sequence : 발급 순서 (가득 찼을 때 가장 오래된 코드 선택)
+    private record Entry(String code, long sequence, long issuedAt, long expiresAt, AtomicInteger attempts) {}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long ttlMillis;
+    private final int maxAttempts;
+    private final int maxSize;
+    private final long resendIntervalMillis;
+
+    public VerificationCodeStore(@Value("${auth.code.ttl-seconds:300}") long ttlSeconds,
+                                 @Value("${auth.code.max-attempts:5}") int maxAttempts,
+                                 @Value("${auth.code.max-size:10000}") int maxSize,
+                                 @Value("${auth.code.resend-interval-seconds:30}") long resendIntervalSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxAttempts = maxAttempts;
+        this.maxSize = maxSize;
+        this.resendIntervalMillis = resendIntervalSeconds * 1000;
+    }
+
+//    코드 저장 (같은 이메일은 새 코드로 교체, 재발급 간격 전이면 false)
+    public boolean put(String email, String code) {
+        String key = normalize(email);
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxSize && !entries.containsKey(key)) {
+            cleanUp(now);
+        }
+        Entry fresh = new Entry(code, sequence.incrementAndGet(), now, now + ttlMillis, new AtomicInteger());
+        boolean[] issued = {true};
+        entries.compute(key, (k, current) -> {
+            if (current != null && current.expiresAt() > now && current.issuedAt() + resendIntervalMillis > now) {
+                issued[0] = false;
+                return current;
+            }
+            return fresh;
+        });
+        if (issued[0] && entries.size() > maxSize) {
+            evictOldest(key);
+        }
+        return issued[0];
+    }
+
+//    코드 확인 (성공하면 바로 제거 -> 한 번만 사용 가능)
+    public boolean verify(String email, String code) {
+        if (email == null || code == null) {
+            return false;
+        }
+        String key = normalize(email);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis() || entry.attempts().incrementAndGet() > maxAttempts) {
+            entries.remove(key, entry);
+            return false;
+        }
+        if (!MessageDigest.isEqual(entry.code().getBytes(StandardCharsets.UTF_8), code.getBytes(StandardCharsets.UTF_8))) {
+            return false;
+        }
+        return entries.remove(key, entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.code.cleanup-interval-ms:60000}")
+    public void cleanUp() {
+        cleanUp(System.currentTimeMillis());
+    }
+
+    private void cleanUp(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+//    방금 발급한 이메일을 제외하고 가장 먼저 발급한 코드부터 제거
+    private void evictOldest(String issuedKey) {
+        while (entries.size() > maxSize) {
+            Map.Entry<String, Entry> oldest = null;
+            for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+                if (!candidate.getKey().equals(issuedKey)
+                        && (oldest == null || candidate.getValue().sequence() < oldest.getValue().sequence())) {
+                    oldest = candidate;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            entries.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    public static String normalize(String email) {
+        return email.replaceAll("\"", "").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,78 @@
+package com.app.gradationback.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+//    썸네일 생성 (큐가 가득 차면 거절 -> 썸네일 없이 원본 사용)
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(@Value("${file.thumbnail.threads:2}") int threads,
+                                                    @Value("${file.thumbnail.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+//    여러 파일 업로드 시 파일별 저장 (큐가 가득 차면 요청 스레드에서 직접 처리)
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor(@Value("${file.upload.threads:4}") int threads,
+                                                 @Value("${file.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+//    대량 알림 등록 (큐가 가득 차면 거절 -> 작업은 DB 에 남아 스케줄러가 다시 처리, 요청 스레드에서 실행하지 않음)
+    @Bean
+    public ThreadPoolTaskExecutor alertExecutor(@Value("${mail.alert.threads:2}") int threads,
+                                                @Value("${mail.alert.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("alert-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+//    결제 승인 (아웃박스 처리, 큐가 가득 차면 거절 -> 스케줄러가 다시 처리)
+    @Bean
+    public ThreadPoolTaskExecutor paymentExecutor(@Value("${payment.outbox.threads:8}") int threads,
+                                                  @Value("${payment.outbox.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("payment-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,81 @@
+package com.app.gradationback.config;
+
+import com.app.gradationback.domain.UserVO;
+import com.app.gradationback.service.UserService;
+import com.app.gradationback.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+// Authorization 헤더의 JWT 를 요청당 한 번만 검증하고 SecurityContext 에 사용자 등록
+// 세션을 쓰지 않으므로 어느 서버로 요청이 가도 같은 결과
+// principal 은 캐시된 UserVO (비밀번호 제외) -> 컨트롤러에서 @AuthenticationPrincipal 로 사용
+// 토큰이 없거나 잘못되었으면 익명으로 통과 (권한이 필요한 경로는 SecurityConfig 에서 막음)
+// 만료 토큰은 매 요청 올 수 있으므로 로그를 남기지 않는 검증(findClaims) 사용
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+//    영구정지 (1 은 댓글정지라 댓글 작성에서만 막음)
+    private static final int BANNED = 2;
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final UserService userService;
+
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, UserService userService) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.userService = userService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith(BEARER)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(authHeader.substring(BEARER.length()));
+        }
+        filterChain.doFilter(request, response);
+    }
+
+//    아이디(identification)가 있는 토큰만 인증 (소셜 전용 회원은 기존처럼 아이디가 없어 제외)
+//    영구정지 회원은 토큰이 유효해도 익명으로 처리
+    private void authenticate(String token) {
+        try {
+            Claims claims = jwtTokenUtil.findClaims(token).orElse(null);
+            if (claims == null) {
+                return;
+            }
+            String identification = claims.get("identification", String.class);
+            if (identification == null) {
+                return;
+            }
+            userService.getPrincipal(identification)
+                    .filter(user -> user.getUserBanOk() != BANNED)
+                    .ifPresent(user -> {
+                        UsernamePasswordAuthenticationToken authentication =
+                                new UsernamePasswordAuthenticationToken(user, null, authorities(user));
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
+        } catch (RuntimeException e) {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static List<GrantedAuthority> authorities(UserVO user) {
+        if (user.isUserAdminOk()) {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.app.gradationback.config;
 
+import com.app.gradationback.mail.EmailDispatcher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +9,7 @@ import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 import java.util.Properties;
 
+// SMTP 설정 (로컬에서는 mail.smtp.host=localhost, port=1025, auth/starttls=false 로 MailHog 등 테스트 서버 사용)
 @Configuration
 public class MailConfig {
 
@@ -17,18 +19,50 @@ public class MailConfig {
     @Value("${mail.api.key}")
     String apiKey;
 
+    @Value("${mail.smtp.host:smtp.gmail.com}")
+    String host;
+
+    @Value("${mail.smtp.port:587}")
+    int port;
+
+    @Value("${mail.smtp.auth:true}")
+    boolean auth;
+
+    @Value("${mail.smtp.starttls:true}")
+    boolean starttls;
+
+    @Value("${mail.smtp.timeout-ms:10000}")
+    int timeoutMillis;
+
     @Bean
     public JavaMailSender getJavaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
-        mailSender.setHost("smtp.gmail.com");
-        mailSender.setPort(587);
-        mailSender.setUsername(authMail);
-        mailSender.setPassword(apiKey);
+        mailSender.setHost(host);
+        mailSender.setPort(port);
+        if (auth) {
+            mailSender.setUsername(authMail);
+            mailSender.setPassword(apiKey);
+        }
 
         Properties properties = mailSender.getJavaMailProperties();
-        properties.put("mail.smtp.auth", "true");
-        properties.put("mail.smtp.starttls.enable", "true");
+        properties.put("mail.smtp.auth", String.valueOf(auth));
+        properties.put("mail.smtp.starttls.enable", String.valueOf(starttls));
+//        느린 SMTP 서버가 발송 스레드를 오래 잡지 않도록
+        properties.put("mail.smtp.connectiontimeout", String.valueOf(timeoutMillis));
+        properties.put("mail.smtp.timeout", String.valueOf(timeoutMillis));
+        properties.put("mail.smtp.writetimeout", String.valueOf(timeoutMillis));
 
         return mailSender;
     }
+
+//    이메일 발송 대기열 (작업 스레드 수, 대기열 크기, 연결 1개로 보낼 최대 건수, 재시도)
+    @Bean(destroyMethod = "close")
+    public EmailDispatcher emailDispatcher(JavaMailSender javaMailSender,
+                                           @Value("${mail.dispatch.threads:2}") int threads,
+                                           @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+                                           @Value("${mail.dispatch.batch-size:20}") int batchSize,
+                                           @Value("${mail.dispatch.max-attempts:4}") int maxAttempts,
+                                           @Value("${mail.dispatch.retry-delay-ms:2000}") long retryDelayMillis) {
+        return new EmailDispatcher(javaMailSender, threads, queueCapacity, batchSize, maxAttempts, retryDelayMillis);
+    }
 }
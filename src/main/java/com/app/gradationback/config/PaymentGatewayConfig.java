@@ -0,0 +1,76 @@
+package com.app.gradationback.config;
+
+import com.app.gradationback.payment.CircuitBreaker;
+import com.app.gradationback.payment.FakePaymentGatewayClient;
+import com.app.gradationback.payment.PaymentGatewayClient;
+import com.app.gradationback.payment.TossPaymentGatewayClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+// 결제 대행사 클라이언트 (payment.gateway.type = toss | fake)
+@Configuration
+public class PaymentGatewayConfig {
+
+//    결제 API 전용 커넥션 풀 (TLS 연결 재사용, 타임아웃)
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "payment.gateway.type", havingValue = "toss", matchIfMissing = true)
+    public CloseableHttpClient paymentHttpClient(@Value("${payment.gateway.max-connections:50}") int maxConnections,
+                                                 @Value("${payment.gateway.connect-timeout-ms:3000}") long connectTimeout,
+                                                 @Value("${payment.gateway.read-timeout-ms:10000}") long readTimeout,
+                                                 @Value("${payment.gateway.pool-timeout-ms:2000}") long poolTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+//                재시도는 TossPaymentGatewayClient 에서 Idempotency-Key 와 함께 처리
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "payment.gateway.type", havingValue = "toss", matchIfMissing = true)
+    public PaymentGatewayClient tossPaymentGatewayClient(CloseableHttpClient paymentHttpClient, ObjectMapper objectMapper,
+                                                         @Value("${toss.payments.api.url}") String apiUrl,
+                                                         @Value("${toss.payments.api.key}") String apiKey,
+                                                         @Value("${payment.gateway.max-retries:2}") int maxRetries,
+                                                         @Value("${payment.gateway.retry-backoff-ms:200}") long retryBackoffMillis,
+                                                         @Value("${payment.gateway.circuit.failure-threshold:5}") int failureThreshold,
+                                                         @Value("${payment.gateway.circuit.open-ms:30000}") long openMillis) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(paymentHttpClient));
+        return new TossPaymentGatewayClient(restTemplate, objectMapper, apiUrl, apiKey, maxRetries, retryBackoffMillis,
+                new CircuitBreaker(failureThreshold, openMillis));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "payment.gateway.type", havingValue = "fake")
+    public PaymentGatewayClient fakePaymentGatewayClient(ObjectMapper objectMapper,
+                                                         @Value("${payment.gateway.fake.latency-ms:50}") long latencyMillis) {
+        return new FakePaymentGatewayClient(objectMapper, latencyMillis);
+    }
+}
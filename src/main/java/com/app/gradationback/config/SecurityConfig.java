@@ -5,21 +5,32 @@ import com.app.gradationback.service.UserService;
 import com.app.gradationback.util.JwtTokenUtil;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.io.Decoders;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfiguration;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,15 +48,49 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+//    소셜 로그인 인가 요청 보관 (세션 대신 서명된 쿠키)
+//    쿠키 서명 키는 jwt.secret 을 그대로 쓰지 않고 용도별로 따로 만든 키 사용 (JWT 서명 키와 분리)
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserService userService) throws Exception {
+    public HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository(
+            @Value("${jwt.secret}") String secret,
+            @Value("${oauth2.authorization-request.max-age-seconds:180}") int maxAgeSeconds) {
+        return new HttpCookieOAuth2AuthorizationRequestRepository(deriveKey(Decoders.BASE64.decode(secret), "oauth2-cookie"), maxAgeSeconds);
+    }
+
+//    HMAC-SHA256(secret, 용도)
+    private static byte[] deriveKey(byte[] secret, String purpose) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserService userService,
+                                                   HttpCookieOAuth2AuthorizationRequestRepository authorizationRequestRepository) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // CORS 설정 추가
                 .csrf(csrf -> csrf.disable()) // CSRF 비활성화
+//                세션 사용 안 함 -> 인증은 매 요청 JWT 로 (서버 여러 대로 나눠도 sticky session 불필요)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenUtil, userService), UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(authorize -> authorize
-                        .anyRequest().permitAll() // 모든 경로 허용
+                        .requestMatchers("/admin/api/**").hasRole("ADMIN") // 관리자 경로
+                        .requestMatchers("/mail/api/notRead-stream").authenticated() // 본인 알림 수 구독
+                        .anyRequest().permitAll() // 나머지 경로 허용
+                )
+//                인증 안 된 요청은 로그인 페이지로 보내지 않고 401
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
                 )
                 .oauth2Login(oauth -> oauth
+                        .authorizationEndpoint(endpoint -> endpoint
+                                .authorizationRequestRepository(authorizationRequestRepository)
+                        )
                         .successHandler((request, response, authentication) -> {
                             if (authentication instanceof OAuth2AuthenticationToken) {
                                 OAuth2AuthenticationToken authToken = (OAuth2AuthenticationToken) authentication;
@@ -0,0 +1,55 @@
+package com.app.gradationback.config;
+
+import com.app.gradationback.storage.LocalStorageService;
+import com.app.gradationback.storage.S3StorageService;
+import com.app.gradationback.storage.StorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.net.URI;
+
+// 업로드 파일 저장소 선택 (file.storage.type = local | s3)
+// 로컬 테스트는 MinIO 등을 띄우고 endpoint, path-style 을 지정
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
+    public StorageService localStorageService(@Value("${file.storage.local.root:C:/upload/}") String root) {
+        return new LocalStorageService(root);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public S3Client s3Client(@Value("${file.storage.s3.region:ap-northeast-2}") String region,
+                             @Value("${file.storage.s3.endpoint:}") String endpoint,
+                             @Value("${file.storage.s3.access-key:}") String accessKey,
+                             @Value("${file.storage.s3.secret-key:}") String secretKey,
+                             @Value("${file.storage.s3.path-style:false}") boolean pathStyle) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(pathStyle).build());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+//        키가 없으면 기본 자격 증명 (환경 변수, 인스턴스 역할 등)
+        if (!accessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public StorageService s3StorageService(S3Client s3Client, @Value("${file.storage.s3.bucket}") String bucket) {
+        return new S3StorageService(s3Client, bucket);
+    }
+}
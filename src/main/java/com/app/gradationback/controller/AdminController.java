@@ -1,9 +1,9 @@
 package com.app.gradationback.controller;
 
+import com.app.gradationback.cache.ImageByteCache;
 import com.app.gradationback.domain.*;
 import com.app.gradationback.service.*;
 import com.app.gradationback.util.AdminCheckUtil;
-import com.app.gradationback.util.JwtTokenUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -12,10 +12,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.sql.Timestamp;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -30,8 +33,10 @@ public class AdminController {
     private final ArtService artService;
     private final UserService userService;
     private final UpcyclingService upcyclingService;
+    private final MailService mailService;
+    private final PaymentService paymentService;
+    private final ImageByteCache imageByteCache;
     private final AdminCheckUtil adminCheckUtil;
-    private final JwtTokenUtil jwtTokenUtil;
 
     @Operation(summary = "FAQ 전체 조회", description = "FAQ 전체 리스트를 조회하는 API")
     @GetMapping("/faq/list")
@@ -54,18 +59,16 @@ public class AdminController {
 
     @Operation(summary = "FAQ 신규 등록", description = "FAQ 신규 등록하는 API")
     @PostMapping("/faq/register")
-    public void registerFaq(@RequestBody FaqVO faqVO, HttpServletRequest request) {
+    public void registerFaq(@RequestBody FaqVO faqVO, HttpServletRequest request, @AuthenticationPrincipal UserVO admin) {
         if (!adminCheckUtil.isAdmin(request)) {
             throw new RuntimeException("관리자만 접근 가능합니다.");
         }
-        String token = request.getHeader("Authorization").replace("Bearer ", "");
-        String identification = jwtTokenUtil.parseToken(token).get("identification", String.class);
-
-        Long adminId = userService.getUserByIdentification(identification)
-                .orElseThrow(() -> new RuntimeException("관리자 정보가 없습니다."))
-                .getId();
+//        필터에서 인증된 관리자 정보 (토큰을 다시 파싱하지 않음)
+        if (admin == null) {
+            throw new RuntimeException("관리자 정보가 없습니다.");
+        }
 
-        faqVO.setUserId(adminId);
+        faqVO.setUserId(admin.getId());
         faqService.register(faqVO);
     }
 
@@ -182,4 +185,35 @@ public class AdminController {
         }
     }
 
+    @Operation(summary = "알림 일괄 발송", description = "여러 회원에게 같은 알림을 보내는 API (대상이 많으면 나눠서 비동기 등록)")
+    @PostMapping("/alert/bulk")
+    public Map<String, Object> registerAlerts(@RequestBody MailDTO mailDTO, HttpServletRequest request) {
+        if (!adminCheckUtil.isAdmin(request)) {
+            throw new RuntimeException("관리자만 접근 가능합니다.");
+        }
+        Map<String, Object> response = new HashMap<>();
+        int count = mailService.registerAlerts(mailDTO.getReceiveUserIds(), mailDTO.getMailTitle(), mailDTO.getMailContent());
+        response.put("message", "알림 발송 요청 성공");
+        response.put("count", count);
+        return response;
+    }
+
+    @Operation(summary = "결제 API 호출 통계", description = "결제 대행사 호출 수, 지연 시간, 서킷 브레이커 상태 조회 API")
+    @GetMapping("/payment/gateway/stats")
+    public Map<String, Object> getGatewayStats(HttpServletRequest request) {
+        if (!adminCheckUtil.isAdmin(request)) {
+            throw new RuntimeException("관리자만 접근 가능합니다.");
+        }
+        return paymentService.getGatewayStats();
+    }
+
+    @Operation(summary = "이미지 캐시 통계", description = "이미지 바이트 캐시 적중률, 크기 등을 반환해주는 API")
+    @GetMapping("/files/cache/stats")
+    public Map<String, Object> getImageCacheStats(HttpServletRequest request) {
+        if (!adminCheckUtil.isAdmin(request)) {
+            throw new RuntimeException("관리자만 접근 가능합니다.");
+        }
+        return imageByteCache.stats();
+    }
+
 }
@@ -73,8 +73,9 @@ public class ArtistController {
     })
     @GetMapping("detail/{userId}")
     public ResponseEntity<ArtistDetailDTO> getArtistDetailById(@PathVariable Long userId) {
-        ArtistDetailDTO artistDetailDTO = artistService.getArtistDetailById(userId);
-        return ResponseEntity.ok(artistDetailDTO);
+        return artistService.getArtistDetailById(userId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
 //    artist detail artList
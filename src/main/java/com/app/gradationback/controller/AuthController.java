@@ -40,11 +40,12 @@ public class AuthController {
     @Operation(summary = "인증번호 검증", description = "인증번호를 검증할 수 있는 API")
     @ApiResponse(responseCode = "200", description = "인증번호 검증 성공")
     @PostMapping("verifyCode")
-    public ResponseEntity<Map<String, Object>> verifyCode(@RequestBody String code){
+    public ResponseEntity<Map<String, Object>> verifyCode(@RequestBody Map<String, String> params){
         Map<String,Object> response = new HashMap<>();
-        log.info("verifyCode {}", smsService.verifyAuthCode(code));
 
-        boolean isFlag = smsService.verifyAuthCode(code);
+//        { "userEmail": "인증코드를 받은 이메일", "code": "인증코드" }
+        boolean isFlag = smsService.verifyAuthCode(params.get("userEmail"), params.get("code"));
+        log.info("verifyCode {} {}", params.get("userEmail"), isFlag);
         if(isFlag){
             response.put("message", "인증이 완료되었습니다");
             response.put("isFlag", isFlag);
@@ -12,12 +12,12 @@ import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.Response;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
@@ -39,9 +39,9 @@ public class CommentController {
     @Operation(summary = "댓글 등록", description = "댓글을 등록할 수 있는 API")
     @ApiResponse(responseCode = "200", description = "댓글 등록 성공")
     @PostMapping("registration")
-    public ResponseEntity<Map<String, Object>> write(@RequestBody CommentVO commentVO, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> write(@RequestBody CommentVO commentVO, @AuthenticationPrincipal UserVO principal) {
         Map<String, Object> response = new HashMap<>();
-        Long userId = (Long) session.getAttribute("id");
+        Long userId = principal != null ? principal.getId() : null;
 //        System.out.println("userId " + userId);
 //        System.out.println("userId " + userId);
 //        System.out.println("userId " + userId);
@@ -99,31 +99,33 @@ public class CommentController {
     @Operation(summary = "댓글 전체 조회", description = "댓글을 전체 조회할 수 있는 API")
     @Parameters({
             @Parameter(name = "order", description = "정렬기준", example = "popular"),
-            @Parameter(name = "cursor", description = "페이지", example = "1"),
+            @Parameter(name = "cursor", description = "페이지 (lastId 가 없을 때만 사용)", example = "1"),
+            @Parameter(name = "lastId", description = "이전 페이지 마지막 댓글 번호", example = "10"),
     })
     @ApiResponse(responseCode = "200", description = "댓글 전체 조회 성공")
     @PostMapping("list")
-    public ResponseEntity<Map<String, Object>> getReplies(@RequestBody HashMap<String, Object> params, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> getReplies(@RequestBody HashMap<String, Object> params, @AuthenticationPrincipal UserVO principal) {
         Map<String, Object> response = new HashMap<>();
 
-        Long userId = (Long) session.getAttribute("id");
+        Long userId = principal != null ? principal.getId() : null;
 //        UserVO foundUser = (UserVO) session.getAttribute("user");
-        if (userId == null) {
+        if (userId != null) {
             params.put("userId", userId);
         }
         List<CommentDTO> commentList = commentService.getAllCommentByPostId(params);
-            response.put("commentList", commentList);
-            response.put("message", "댓글 전체 조회 성공했습니다.");
-            response.put("params", params);
-            if(commentList.isEmpty()) {
-                response.put("contents", 0);
-                return ResponseEntity.ok(response);
+        response.put("commentList", commentList);
+        response.put("message", "댓글 전체 조회 성공했습니다.");
+        response.put("params", params);
+        if(commentList.isEmpty()) {
+            response.put("contents", 0);
+            return ResponseEntity.ok(response);
 
 //            response.put("message", "메세지");
 //            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
-            response.put("contents", commentService.getCountComment(params));
-            return ResponseEntity.ok(response);
+        response.put("lastId", commentList.get(commentList.size() - 1).getId());
+        response.put("contents", commentService.getCountComment(params));
+        return ResponseEntity.ok(response);
     }
 
 //    댓글 단일 조회
@@ -1,5 +1,6 @@
 package com.app.gradationback.controller;
 
+import com.app.gradationback.cache.GradationExhibitionCache;
 import com.app.gradationback.domain.*;
 import com.app.gradationback.service.ExhibitionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,15 +32,13 @@ public class ExhibitionController {
     @ApiResponse(responseCode = "200", description = "현재 gradation 전시회 조회 성공")
     @GetMapping("gradation/current")
     public ResponseEntity<Map<String, Object>> getGradation() {
-        Optional<GradationExhibitionVO> gradationExhibitionVO = exhibitionService.getGradation();
+//        전시회와 이미지는 같은 묶음에서 (따로 조회하면 그 사이 무효화로 서로 다른 시점이 섞일 수 있음)
+        GradationExhibitionCache.Bundle bundle = exhibitionService.getCurrentGradation();
             Map<String, Object> response = new HashMap<>();
 
-        if (gradationExhibitionVO.isPresent()) {
-            GradationExhibitionVO gradationExhibition = gradationExhibitionVO.get();
-            List<GradationExhibitionImgVO> images = exhibitionService.getGradationImgAll(gradationExhibition.getId());
-
-            response.put("gradation", gradationExhibition);
-            response.put("images", images);
+        if (bundle.gradation().isPresent()) {
+            response.put("gradation", bundle.gradation().get());
+            response.put("images", bundle.images());
             response.put("message", "전시회 조회를 성공하였습니다.");
             return ResponseEntity.ok(response);
         }
@@ -1,6 +1,7 @@
 package com.app.gradationback.controller;
 
 import com.app.gradationback.aspect.annotation.ExceptionResponse;
+import com.app.gradationback.cache.ImageByteCache;
 import com.app.gradationback.domain.*;
 import com.app.gradationback.exception.ImageFileException;
 import com.app.gradationback.repository.ArtImgDAO;
@@ -9,21 +10,26 @@ import com.app.gradationback.service.ArtImgService;
 import com.app.gradationback.service.ArtService;
 import com.app.gradationback.service.ExhibitionService;
 import com.app.gradationback.service.UserService;
+import com.app.gradationback.storage.StoragePaths;
+import com.app.gradationback.storage.StorageService;
+import com.app.gradationback.storage.StoredFile;
 import com.app.gradationback.util.FileSaveUtil;
+import com.app.gradationback.util.ThumbnailUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnailator;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.FileCopyUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -35,49 +41,54 @@ public class FileController {
     private final ArtImgService artImgService;
     private final ExhibitionService exhibitionService;
     private final UserService userService;
+    private final ThumbnailUtil thumbnailUtil;
+    private final FileSaveUtil fileSaveUtil;
+    private final StorageService storageService;
+    private final ImageByteCache imageByteCache;
 
     @Operation(summary = "작품 이미지 업로드", description = "작품 이미지 파일 저장 API")
     @PostMapping("upload/art/{artId}")
     public ResponseEntity<Map<String, Object>> artFileUpload(@RequestParam("files")List<MultipartFile> files, @PathVariable Long artId) throws IOException {
         Map<String, Object> response = new HashMap<>();
-        Map<String, String> categoryMap = new HashMap<>();
-        categoryMap.put("한국화", "korean");
-        categoryMap.put("회화", "painting");
-        categoryMap.put("건축", "architecture");
-        categoryMap.put("조각", "sculpture");
-        categoryMap.put("서예", "calligraphy");
-        categoryMap.put("공예", "craft");
-
-        String filePath = "images/display/art";
         List<String> uuids = new ArrayList<>();
-        FileSaveUtil fileSave = new FileSaveUtil();
+        List<String> fileNames = new ArrayList<>();
         Optional<ArtVO> foundArt = artService.getArt(artId);
         if (foundArt.isPresent()) {
             artId = foundArt.get().getId();
-            filePath = filePath + "/" + categoryMap.get(foundArt.get().getArtCategory());
         }
 
-        for(MultipartFile file : files) {
-            String uuid = UUID.randomUUID().toString();
-            uuids.add(uuid);
+        // 실제 파일 저장 (파일별로 동시에, 같은 내용이면 기존 파일 사용)
+        List<UploadBlobVO> blobs = fileSaveUtil.fileSaveAll(files);
+        List<ArtImgVO> artImgList = new ArrayList<>();
+        for (UploadBlobVO blob : blobs) {
+            uuids.add(blob.getBlobHash());
+            fileNames.add(blob.getBlobName());
             ArtImgVO artImgVO = new ArtImgVO();
-            artImgVO.setArtImgName(uuid + "_" + file.getOriginalFilename());
-            artImgVO.setArtImgPath(filePath);
+            artImgVO.setArtImgName(blob.getBlobName());
+            artImgVO.setArtImgPath(blob.getBlobPath());
             artImgVO.setArtId(artId);
-            // DB에 작품 이미지 저장
-            artImgService.register(artImgVO);
-            // 실제 파일 저장
-            fileSave.fileSave(file, artImgVO.getArtImgPath(), artImgVO.getArtImgName());
-
-//            썸네일
-            if (file.getContentType().startsWith("image")) {
-                FileOutputStream out = new FileOutputStream(new File("C:/upload/" + filePath, "t_" + uuid + "_" + file.getOriginalFilename()));
-                Thumbnailator.createThumbnail(file.getInputStream(), out, 300, 300);
-                out.close();
+            artImgList.add(artImgVO);
+        }
+
+        // DB에 작품 이미지 한 번에 저장 (실패하면 저장한 파일 참조 취소)
+        try {
+            artImgService.registerAll(artImgList);
+        } catch (RuntimeException e) {
+            fileSaveUtil.release(blobs);
+            throw e;
+        }
+
+//        썸네일 (백그라운드, 기존 t_ 썸네일 포함)
+        for (int i = 0; i < blobs.size(); i++) {
+            UploadBlobVO blob = blobs.get(i);
+            String contentType = files.get(i).getContentType();
+            if (!blob.isDuplicated() && contentType != null && contentType.startsWith("image")) {
+                thumbnailUtil.generate(blob.getBlobPath(), blob.getBlobName(), true);
             }
         }
 
         response.put("uuids", uuids);
+        response.put("fileNames", fileNames);
         response.put("message", "정상적으로 업로드가 완료되었습니다.");
         return ResponseEntity.ok(response);
     }
@@ -86,21 +97,28 @@ public class FileController {
     @PostMapping("upload/exhibition/gradation/{id}")
     public ResponseEntity<Map<String, Object>> gradationExhibitionFileUpload(@RequestParam("files")List<MultipartFile> files, @PathVariable("id") Long id) throws IOException {
         Map<String, Object> response = new HashMap<>();
-        String filePath = "exhibition/gradation";
-        String uuid = UUID.randomUUID().toString();
-        FileSaveUtil fileSave = new FileSaveUtil();
 
-        for(MultipartFile file : files) {
+        List<UploadBlobVO> blobs = fileSaveUtil.fileSaveAll(files);
+        List<GradationExhibitionImgVO> gradationImgList = new ArrayList<>();
+        for (UploadBlobVO blob : blobs) {
             GradationExhibitionImgVO gradationImgVO = new GradationExhibitionImgVO();
-            gradationImgVO.setGradationExhibitionImgName(uuid + file.getOriginalFilename());
-            gradationImgVO.setGradationExhibitionImgPath(filePath);
+            gradationImgVO.setGradationExhibitionImgName(blob.getBlobName());
+            gradationImgVO.setGradationExhibitionImgPath(blob.getBlobPath());
             gradationImgVO.setGradationExhibitionId(id);
-            exhibitionService.registerGradationImage(gradationImgVO);
-            log.info("file : {}", file.getOriginalFilename());
+            gradationImgList.add(gradationImgVO);
+        }
+        log.info("files : {}", files.stream().map(MultipartFile::getOriginalFilename).toList());
 
-            fileSave.fileSave(file, gradationImgVO.getGradationExhibitionImgPath(), gradationImgVO.getGradationExhibitionImgName());
+        try {
+            exhibitionService.registerGradationImages(gradationImgList);
+        } catch (RuntimeException e) {
+            fileSaveUtil.release(blobs);
+            throw e;
         }
 
+        blobs.stream().filter(blob -> !blob.isDuplicated())
+                .forEach(blob -> thumbnailUtil.generate(blob.getBlobPath(), blob.getBlobName()));
+
         response.put("uuid", UUID.randomUUID().toString());
         response.put("message", "정상적으로 업로드가 완료되었습니다.");
         return ResponseEntity.ok(response);
@@ -117,42 +135,86 @@ public class FileController {
                     .body(Map.of("message", "파일이 존재하지 않습니다."));
         }
 
-        String filePath = "images/exhibition/university";
-        String uuid = UUID.randomUUID().toString();
-        FileSaveUtil fileSave = new FileSaveUtil();
-
-        for(MultipartFile file : files) {
+        // 파일 저장 (파일별로 동시에)
+        List<UploadBlobVO> blobs = fileSaveUtil.fileSaveAll(files);
+        List<UniversityExhibitionDTO> universityImgList = new ArrayList<>();
+        for (UploadBlobVO blob : blobs) {
             UniversityExhibitionDTO universityExhibitionDTO = new UniversityExhibitionDTO();
-            universityExhibitionDTO.setUniversityExhibitionImgName(uuid + file.getOriginalFilename());
-            universityExhibitionDTO.setUniversityExhibitionImgPath(filePath);
+            universityExhibitionDTO.setUniversityExhibitionImgName(blob.getBlobName());
+            universityExhibitionDTO.setUniversityExhibitionImgPath(blob.getBlobPath());
             universityExhibitionDTO.setUniversityExhibitionId(id);
+            universityImgList.add(universityExhibitionDTO);
+        }
+        log.info("university images : {}", files.stream().map(MultipartFile::getOriginalFilename).toList());
 
-//            log.info("dto : {}", universityExhibitionDTO);
-
-            exhibitionService.registerUniversityImg(universityExhibitionDTO);
-            log.info("university image : {}", file.getOriginalFilename());
-
-            // 파일 저장
-            fileSave.fileSave(file, universityExhibitionDTO.getUniversityExhibitionImgPath(), universityExhibitionDTO.getUniversityExhibitionImgName());
+        try {
+            exhibitionService.registerUniversityImgs(universityImgList);
+        } catch (RuntimeException e) {
+            fileSaveUtil.release(blobs);
+            throw e;
         }
 
+        blobs.stream().filter(blob -> !blob.isDuplicated())
+                .forEach(blob -> thumbnailUtil.generate(blob.getBlobPath(), blob.getBlobName()));
+
         response.put("uuid", UUID.randomUUID().toString());
         response.put("message", "정상적으로 업로드가 완료되었습니다.");
         return ResponseEntity.ok(response);
     }
 
+//    파일을 byte[]로 읽지 않고 Resource 로 스트리밍 (Range 요청은 206 부분 응답)
+//    width 가 있으면 그 너비 이상인 썸네일 중 가장 작은 것, 없으면 원본
+//    ETag, Last-Modified 가 있으므로 조건부 요청은 304, 파일명이 내용 해시(기존 파일은 UUID)라 내용이 바뀌지 않으므로 오래 캐시
     @ExceptionResponse
     @Operation(summary = "이미지 조회", description = "패스와 이름을 적으면 이미지를 반환해주는 API")
     @GetMapping("get/{fileName}")
-    @ResponseBody
-    public byte[] display(@PathVariable String fileName, @RequestParam String filePath) throws IOException {
-        File file = new File("c:/upload/" + filePath + "/" + fileName);
+    public ResponseEntity<Resource> display(@PathVariable String fileName, @RequestParam String filePath,
+                                            @RequestParam(required = false) Integer width) throws IOException {
+        Optional<StoredFile> found;
+        try {
+            if (width != null) {
+                fileName = thumbnailUtil.resolve(filePath, fileName, width);
+            }
 
-        if (!file.exists()) {
-            throw new ImageFileException(file.getAbsolutePath());
+//            자주 요청되는 작은 이미지는 메모리(direct buffer)에서 응답
+            String key = StoragePaths.key(filePath, fileName);
+            ImageByteCache.CachedImage cached = imageByteCache.get(key);
+            if (cached != null) {
+                return imageResponse(cached.toResource(fileName), cached.lastModified(), cached.weight());
+            }
+
+            found = storageService.find(filePath, fileName);
+            if (found.isPresent() && imageByteCache.shouldLoad(key, found.get().size())) {
+                cached = imageByteCache.load(key, found.get());
+                return imageResponse(cached.toResource(fileName), cached.lastModified(), cached.weight());
+            }
+
+//            t_ 썸네일이 아직 만들어지지 않았으면 원본
+            if (found.isEmpty() && fileName.startsWith(ThumbnailUtil.LEGACY_PREFIX)) {
+                found = storageService.find(filePath, fileName.substring(ThumbnailUtil.LEGACY_PREFIX.length()));
+            }
+        } catch (IllegalArgumentException e) {
+//            상위 경로 접근 등 잘못된 경로
+            throw new ImageFileException(e.getMessage());
+        }
+
+        if (found.isEmpty()) {
+            throw new ImageFileException(filePath + "/" + fileName);
         }
 
-        return FileCopyUtils.copyToByteArray(file);
+        StoredFile storedFile = found.get();
+        return imageResponse(storedFile.resource(), storedFile.lastModified(), storedFile.size());
+    }
+
+    private ResponseEntity<Resource> imageResponse(Resource resource, long lastModified, long size) {
+        String eTag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(size) + "\"";
+
+        return ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .lastModified(lastModified)
+                .eTag(eTag)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .body(resource);
     }
 
 //    프로필 사진 변경
@@ -166,13 +228,12 @@ public class FileController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
 
-        String filePath = "images/user/profile";
-        String uuid = UUID.randomUUID().toString();
-        String originalFileName = file.getOriginalFilename();
-        String savedFileName = uuid + (originalFileName != null ? originalFileName : "");
-
-        FileSaveUtil fileSave = new FileSaveUtil();
-        fileSave.fileSave(file, filePath, savedFileName);
+        UploadBlobVO blob = fileSaveUtil.fileSave(file);
+        String filePath = blob.getBlobPath();
+        String savedFileName = blob.getBlobName();
+        if (!blob.isDuplicated()) {
+            thumbnailUtil.generate(filePath, savedFileName);
+        }
 
         UserVO userVO = new UserVO();
         userVO.setUserIdentification(userIdentification);
@@ -199,13 +260,9 @@ public class FileController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
 
-        String filePath = "images/user/certification";
-        String uuid = UUID.randomUUID().toString();
-        String originalFileName = file.getOriginalFilename();
-        String savedFileName = uuid + (originalFileName != null ? originalFileName : "");
-
-        FileSaveUtil fileSave = new FileSaveUtil();
-        fileSave.fileSave(file, filePath, savedFileName);
+        UploadBlobVO blob = fileSaveUtil.fileSave(file);
+        String filePath = blob.getBlobPath();
+        String savedFileName = blob.getBlobName();
 
         UserVO userVO = new UserVO();
         userVO.setId(id);
@@ -4,15 +4,20 @@ import com.app.gradationback.domain.MailDTO;
 import com.app.gradationback.domain.MailVO;
 import com.app.gradationback.domain.QnaDTO;
 import com.app.gradationback.domain.QnaVO;
+import com.app.gradationback.domain.UserVO;
 import com.app.gradationback.service.MailService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -49,17 +54,25 @@ public class MailController {
 //}
 
 //    받은 쪽지 리스트
-    @Operation(summary = "받은 쪽지 전체 조회",description = "받은 쪽지를 전체 조회 할 수 있는 API")
+    @Operation(summary = "받은 쪽지 전체 조회",description = "받은 쪽지를 최신순으로 size 개씩 조회 할 수 있는 API")
+    @Parameters({
+            @Parameter(name = "lastId", description = "이전 페이지 마지막 쪽지 번호 (없으면 첫 페이지)", example = "10"),
+            @Parameter(name = "size", description = "페이지 크기 (기본 20, 최대 100)", example = "20"),
+    })
     @GetMapping("received-list")
-    public List<MailDTO> getReceivedList(Long receiveUserId) {
-        return mailService.getReceivedList(receiveUserId);
+    public List<MailDTO> getReceivedList(Long receiveUserId, Long lastId, Integer size) {
+        return mailService.getReceivedList(receiveUserId, lastId, size);
     }
 
 //    보낸 쪽지 리스트
-    @Operation(summary = "보낸 쪽지 전체 조회",description = "보낸 쪽지를 전체 조회 할 수 있는 API")
+    @Operation(summary = "보낸 쪽지 전체 조회",description = "보낸 쪽지를 최신순으로 size 개씩 조회 할 수 있는 API")
+    @Parameters({
+            @Parameter(name = "lastId", description = "이전 페이지 마지막 쪽지 번호 (없으면 첫 페이지)", example = "10"),
+            @Parameter(name = "size", description = "페이지 크기 (기본 20, 최대 100)", example = "20"),
+    })
     @GetMapping("sended-list")
-    public List<MailDTO> getSendedList(Long sendUserId) {
-        return mailService.getSendedList(sendUserId);
+    public List<MailDTO> getSendedList(Long sendUserId, Long lastId, Integer size) {
+        return mailService.getSendedList(sendUserId, lastId, size);
     }
 
 //    받은 쪽지 단일조회
@@ -131,10 +144,14 @@ public class MailController {
     }
 
 //    알림리스트
-    @Operation(summary = "알림 전체 조회",description = "알림을 전체 조회 할 수 있는 API")
+    @Operation(summary = "알림 전체 조회",description = "알림을 최신순으로 size 개씩 조회 할 수 있는 API")
+    @Parameters({
+            @Parameter(name = "lastId", description = "이전 페이지 마지막 알림 번호 (없으면 첫 페이지)", example = "10"),
+            @Parameter(name = "size", description = "페이지 크기 (기본 20, 최대 100)", example = "20"),
+    })
     @GetMapping("alert-list")
-    public List<MailDTO> getAlerts(Long receiveUserId) {
-    return mailService.getAlertList(receiveUserId);
+    public List<MailDTO> getAlerts(Long receiveUserId, Long lastId, Integer size) {
+    return mailService.getAlertList(receiveUserId, lastId, size);
 }
 
     // 알림상세
@@ -175,4 +192,12 @@ public class MailController {
         return mailService.countNotRead(receiveUserId);
     }
 
+//    읽지않은 메일 갯수 실시간 구독 (헤더에서 폴링 대신 사용)
+    @Operation(summary = "읽지 않은 메일 개수 구독", description = "로그인한 회원의 읽지 않은 알림 수가 바뀔 때마다 notRead-count 이벤트로 전송하는 SSE API (Authorization 헤더 필요)")
+    @GetMapping(value = "notRead-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeNotRead(@AuthenticationPrincipal UserVO principal) {
+//        로그인한 본인 것만 구독 (SecurityConfig 에서 인증 필요)
+        return mailService.subscribeNotRead(principal.getId());
+    }
+
 }
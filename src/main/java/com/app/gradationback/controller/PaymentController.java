@@ -4,45 +4,117 @@ import com.app.gradationback.aspect.annotation.ExceptionResponse;
 import com.app.gradationback.domain.DeliveryDTO;
 import com.app.gradationback.domain.DeliveryVO;
 import com.app.gradationback.domain.PaymentCancellationVO;
+import com.app.gradationback.domain.PaymentOutboxVO;
+import com.app.gradationback.domain.PurchaseHistoryDTO;
 import com.app.gradationback.exception.DeliveryException;
 import com.app.gradationback.exception.PaymentException;
+import com.app.gradationback.payment.PaymentOutboxWorker;
 import com.app.gradationback.service.DeliveryService;
 import com.app.gradationback.service.PaymentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @Slf4j
-@RequiredArgsConstructor
 @RequestMapping("/payments/api/*")
 public class PaymentController {
 
     private final PaymentService paymentService;
     private final DeliveryService deliveryService;
+    private final PaymentOutboxWorker paymentOutboxWorker;
+    private final long waitMillis;
+
+    public PaymentController(PaymentService paymentService, DeliveryService deliveryService,
+                             PaymentOutboxWorker paymentOutboxWorker,
+                             @Value("${payment.outbox.wait-ms:15000}") long waitMillis) {
+        this.paymentService = paymentService;
+        this.deliveryService = deliveryService;
+        this.paymentOutboxWorker = paymentOutboxWorker;
+        this.waitMillis = waitMillis;
+    }
 
     @ExceptionResponse
-    @Operation(summary = "결제", description = "결제 API")
+    @Operation(summary = "결제", description = "결제 API (승인이 늦어지면 202 와 결제 요청 번호 반환)")
     @ApiResponse(responseCode = "200", description = "결제 성공")
+    @ApiResponse(responseCode = "202", description = "결제 처리 중")
     @PostMapping("/payment")
     public ResponseEntity<Map<String, Object>> payment(@RequestBody Map<String, Object> paymentData) throws PaymentException {
         Map<String, Object> response = new HashMap<>();
-        Optional<DeliveryDTO> foundPayment = paymentService.payment(paymentData);
+        PaymentOutboxVO paymentOutboxVO = paymentService.requestPayment(paymentData);
+
+//        결제 승인은 별도 스레드에서 처리, 정해진 시간까지만 기다림
+        if ("PENDING".equals(paymentOutboxVO.getOutboxStatus()) || "PROCESSING".equals(paymentOutboxVO.getOutboxStatus())) {
+            try {
+                PaymentOutboxVO processed = paymentOutboxWorker.dispatch(paymentOutboxVO.getId()).get(waitMillis, TimeUnit.MILLISECONDS);
+                if (processed != null) {
+                    paymentOutboxVO = processed;
+                }
+            } catch (TimeoutException e) {
+                log.info("결제 승인 대기 시간 초과 : {}", paymentOutboxVO.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                log.warn("결제 승인 처리 오류 : {}", paymentOutboxVO.getId(), e.getCause());
+            }
+        }
+
+        if ("FAILED".equals(paymentOutboxVO.getOutboxStatus())) {
+            throw new PaymentException("결제 실패 : " + paymentOutboxVO.getOutboxError());
+        }
+        if (!"DONE".equals(paymentOutboxVO.getOutboxStatus())) {
+//            REVIEW : 승인 후 등록이 계속 실패해서 관리자가 확인 중
+            response.put("message", "REVIEW".equals(paymentOutboxVO.getOutboxStatus()) ? "결제 확인 중" : "결제 처리 중");
+            response.put("outboxId", paymentOutboxVO.getId());
+            response.put("status", paymentOutboxVO.getOutboxStatus());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        }
+
+        Optional<DeliveryDTO> foundPayment = paymentService.getPaymentById(paymentOutboxVO.getPaymentId());
         DeliveryDTO payment = foundPayment.orElseThrow(() -> new PaymentException("결제 등록 실패"));
         response.put("message", "결제 등록 성공");
         response.put("status", payment);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @ExceptionResponse
+    @Operation(summary = "결제 요청 상태 조회", description = "202 응답을 받은 결제의 처리 상태를 조회하는 API")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @Parameter(
+            name = "id",
+            description = "결제 요청 번호",
+            schema = @Schema(type = "number"),
+            in = ParameterIn.PATH,
+            required = true
+    )
+    @GetMapping("/payment/outbox/{id}")
+    public ResponseEntity<Map<String, Object>> getPaymentRequest(@PathVariable Long id) throws PaymentException {
+        Map<String, Object> response = new HashMap<>();
+        PaymentOutboxVO paymentOutboxVO = paymentService.getPaymentRequest(id)
+                .orElseThrow(() -> new PaymentException("결제 요청 조회 실패"));
+        response.put("outboxId", paymentOutboxVO.getId());
+        response.put("status", paymentOutboxVO.getOutboxStatus());
+        response.put("paymentId", paymentOutboxVO.getPaymentId());
+        response.put("error", paymentOutboxVO.getOutboxError());
+        if ("DONE".equals(paymentOutboxVO.getOutboxStatus())) {
+            response.put("payment", paymentService.getPaymentById(paymentOutboxVO.getPaymentId()).orElse(null));
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @ExceptionResponse
     @Operation(summary = "결제취소", description = "결제 취소 API")
     @ApiResponse(responseCode = "200", description = "결제 취소 성공")
@@ -92,22 +164,18 @@ public class PaymentController {
     }
 
     @ExceptionResponse
-    @Operation(summary = "결제 전체 조회", description = "결제 전체 조회 API")
+    @Operation(summary = "구매 내역 조회", description = "결제일 최신순 구매 내역 목록 API (상세는 결제 조회 API 사용)")
     @ApiResponse(responseCode = "200", description = "조회 성공")
-    @Parameter(
-            name = "userId",
-            description = "결제 유저 번호",
-            schema = @Schema(type = "number"),
-            in = ParameterIn.PATH,
-            required = true
-    )
+    @Parameters({
+            @Parameter(name = "userId", description = "결제 유저 번호", schema = @Schema(type = "number"), in = ParameterIn.PATH, required = true),
+            @Parameter(name = "lastId", description = "이전 페이지 마지막 결제 번호 (없으면 첫 페이지)", example = "10"),
+            @Parameter(name = "size", description = "페이지 크기 (기본 10, 최대 50)", example = "10"),
+    })
     @GetMapping("/payment/all/{userId}")
-    public List<DeliveryDTO> getPaymentByUserId(@PathVariable Long userId) throws PaymentException {
-        List<DeliveryDTO> deliveryDTOList = paymentService.getPaymentByUserId(userId);
-        if (deliveryDTOList.isEmpty()) {
-            return new ArrayList<>();
-        }
-        return deliveryDTOList;
+    public List<PurchaseHistoryDTO> getPaymentByUserId(@PathVariable Long userId,
+                                                       @RequestParam(required = false) Long lastId,
+                                                       @RequestParam(required = false) Integer size) throws PaymentException {
+        return paymentService.getPurchaseHistory(userId, lastId, size);
     }
 
     //    배송
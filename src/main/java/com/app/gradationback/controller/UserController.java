@@ -11,7 +11,6 @@ import io.swagger.v3.oas.annotations.Parameters;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.User;
@@ -110,7 +109,7 @@ public class UserController {
     @Operation(summary = "로그인", description = "로그인을 할 수 있는 API")
     @ApiResponse(responseCode = "200", description = "로그인 성공")
     @PostMapping("login")
-    public ResponseEntity<Map<String, Object>> login(@RequestBody UserVO userVO, HttpSession session) {
+    public ResponseEntity<Map<String, Object>> login(@RequestBody UserVO userVO) {
         Map<String, Object> response = new HashMap<>();
         Map<String, Object> claims = new HashMap<>();
 
@@ -130,13 +129,7 @@ public class UserController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
             }
 
-            session.setAttribute("id", foundUser.getId());
-//            System.out.println(session.getAttribute("id").toString());
-//            System.out.println(session.getAttribute("id").toString());
-//            System.out.println(session.getAttribute("id").toString());
-//            System.out.println(session.getAttribute("id").toString());
-
-
+//            세션에 저장하지 않음 -> 이후 요청은 JWT 로 인증 (JwtAuthenticationFilter)
             claims.put("email", foundUser.getUserEmail());
             claims.put("identification", foundUser.getUserIdentification());
 
@@ -171,11 +164,11 @@ public class UserController {
 //                String userEmail = claims.get("email").toString();
 
 //                Long userId = userService.getIdByEmail(userEmail);
-                UserVO foundUser = userService.getUserByIdentification(userIdentification).orElseThrow(() -> {
+//                캐시된 회원 정보 (비밀번호 제외, 공유 객체이므로 수정하지 않음)
+                UserVO foundUser = userService.getPrincipal(userIdentification).orElseThrow(() -> {
                     throw new RuntimeException("회원 정보가 존재하지 않습니다.");
                 });
 
-                foundUser.setUserPassword(null);
                 response.put("currentUser", foundUser);
                 return ResponseEntity.ok(response);
             }
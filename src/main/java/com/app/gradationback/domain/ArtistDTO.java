@@ -20,4 +20,6 @@ public class ArtistDTO {
 
     private String artImgName;
     private String artImgPath;
+    private Long artPostId;
+    private Integer artPostCount;
 }
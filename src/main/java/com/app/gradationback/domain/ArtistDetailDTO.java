@@ -3,7 +3,6 @@ package com.app.gradationback.domain;
 import lombok.Data;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
 import java.util.List;
 
 @Component
@@ -21,10 +20,6 @@ public class ArtistDetailDTO {
     private String userIntroduce;
     private String userArtCategory;
 
-    private Date historyDate;
-    private String historyContent;
-    private Long historyId;
-
     private Long artPostId;
     private String artImgPath;
     private String artImgName;
@@ -0,0 +1,40 @@
+package com.app.gradationback.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+
+@Component
+@Data
+@Schema(description = "알림 일괄 등록 작업")
+public class MailAlertJobVO {
+
+    @Schema(description = "작업 번호", example = "1")
+    private Long id;
+
+    @Schema(description = "알림 제목")
+    private String mailTitle;
+
+    @Schema(description = "알림 내용")
+    private String mailContent;
+
+    @Schema(description = "받는 회원 번호 목록 (쉼표로 구분)", example = "1,2,3")
+    private String receiveUserIds;
+
+    @Schema(description = "상태 (PENDING, PROCESSING, DONE, FAILED)", example = "PENDING")
+    private String jobStatus;
+
+    @Schema(description = "등록을 마친 대상 수 (목록 앞에서부터)", example = "0")
+    private Integer jobDoneCount;
+
+    @Schema(description = "처리 시도 횟수", example = "0")
+    private Integer jobAttempt;
+
+    @Schema(description = "실패 사유")
+    private String jobError;
+
+    private Timestamp jobCreatedDate;
+    private Timestamp jobUpdatedDate;
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.stereotype.Component;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 @Component
 @Data
@@ -85,4 +86,10 @@ public class MailDTO {
     private int deletedByReceiver;
     private Long sendUserId;
     private Long receiveUserId;
+
+//    알림 일괄 등록 대상
+    private List<Long> receiveUserIds;
+
+//    회원별 읽지 않은 알림 수 (구독 중인 회원 알림 수 동기화)
+    private int notReadCount;
 }
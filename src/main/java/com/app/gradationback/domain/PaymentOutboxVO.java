@@ -0,0 +1,41 @@
+package com.app.gradationback.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+
+@Component
+@Data
+@Schema(description = "결제 승인 요청 (아웃박스)")
+public class PaymentOutboxVO {
+
+    @Schema(description = "요청 번호", example = "1")
+    private Long id;
+
+    @Schema(description = "경매 코드", example = "1")
+    private Long auctionId;
+
+    @Schema(description = "주문 번호", example = "order-1")
+    private String orderId;
+
+    @Schema(description = "결제/배송 요청 데이터 (JSON)")
+    private String paymentData;
+
+    @Schema(description = "상태 (PENDING, PROCESSING, DONE, FAILED)", example = "PENDING")
+    private String outboxStatus;
+
+    @Schema(description = "승인 시도 횟수", example = "0")
+    private Integer outboxAttempt;
+
+    @Schema(description = "실패 사유")
+    private String outboxError;
+
+    @Schema(description = "결제번호 (완료 시)", example = "1")
+    private Long paymentId;
+
+    private Timestamp outboxCreatedDate;
+    private Timestamp outboxUpdatedDate;
+    private Timestamp outboxNextAttemptDate;
+}
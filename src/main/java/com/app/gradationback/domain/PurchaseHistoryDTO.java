@@ -0,0 +1,27 @@
+package com.app.gradationback.domain;
+
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+// 구매 내역 목록 (목록 화면에 보이는 항목만, 상세는 결제 조회 API 로 따로 조회)
+@Component
+@Data
+public class PurchaseHistoryDTO {
+//    TBL_PAYMENT
+    private Long id;
+    private String paymentMethod;
+    private Long paymentAmount;
+    private String paymentDate;
+    private Long auctionId;
+
+//    TBL_ART
+    private Long artId;
+    private String artTitle;
+
+//    TBL_ART_IMG (대표 이미지)
+    private String artImgName;
+    private String artImgPath;
+
+//    TBL_DELIVERY
+    private String deliveryState;
+}
@@ -14,6 +14,8 @@ public class UniversityExhibitionDTO {
     private Long id;
     private String universityName;
     private String universityLocation;
+//    지역 (주소 첫 단어, 등록 시 저장)
+    private String universityRegion;
     private String universityLogoImgName;
     private String universityLogoImgPath;
     private String universityHomepage;
@@ -9,6 +9,7 @@ public class UniversityVO {
     private Long id;
     private String universityName;
     private String universityLocation;
+    private String universityRegion;
     private String universityLogoImgName;
     private String universityLogoImgPath;
     private String universityHomepage;
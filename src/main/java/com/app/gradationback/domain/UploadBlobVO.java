@@ -0,0 +1,20 @@
+package com.app.gradationback.domain;
+
+import lombok.Data;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+
+@Component
+@Data
+public class UploadBlobVO {
+    private String blobName;
+    private String blobHash;
+    private String blobPath;
+    private Long blobSize;
+    private Integer blobRefCount;
+    private Timestamp blobCreatedDate;
+    private Timestamp blobUpdatedDate;
+//    이미 같은 내용의 파일이 있어서 저장을 건너뛴 경우 (DB 컬럼 아님)
+    private boolean duplicated;
+}
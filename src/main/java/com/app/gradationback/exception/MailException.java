@@ -0,0 +1,14 @@
+package com.app.gradationback.exception;
+
+public class MailException extends RuntimeException{
+    public MailException(){;}
+    public MailException(String message){
+        super(message);
+    }
+    public MailException(String message, Throwable cause){
+        super(message, cause);
+    }
+    public MailException(Throwable cause){
+        super(cause);
+    }
+}
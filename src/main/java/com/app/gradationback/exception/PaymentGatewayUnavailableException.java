@@ -0,0 +1,15 @@
+package com.app.gradationback.exception;
+
+// 결제 서버 장애, 타임아웃 등 다시 시도하면 성공할 수 있는 결제 실패
+public class PaymentGatewayUnavailableException extends PaymentException {
+    public PaymentGatewayUnavailableException(){;}
+    public PaymentGatewayUnavailableException(String message){
+        super(message);
+    }
+    public PaymentGatewayUnavailableException(String message, Throwable cause){
+        super(message, cause);
+    }
+    public PaymentGatewayUnavailableException(Throwable cause){
+        super(cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.app.gradationback.exception;
+
+// 결제 서버가 2xx 로 응답했지만 본문이 없거나 읽을 수 없는 경우 (승인이 끝났을 수 있어 실패로 확정하지 않음)
+public class PaymentResponseUnreadableException extends PaymentException {
+    public PaymentResponseUnreadableException(){;}
+    public PaymentResponseUnreadableException(String message){
+        super(message);
+    }
+    public PaymentResponseUnreadableException(String message, Throwable cause){
+        super(message, cause);
+    }
+    public PaymentResponseUnreadableException(Throwable cause){
+        super(cause);
+    }
+}
@@ -0,0 +1,192 @@
+package com.app.gradationback.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 이메일 발송 대기열
+// 요청 스레드는 대기열에 넣고 바로 반환, 작업 스레드가 모인 메일을 한 번에 (SMTP 연결 1개로) 발송
+// 실패한 메일만 점점 늘어나는 간격으로 다시 대기열에 넣고, 최대 횟수를 넘으면 버림
+@Slf4j
+public class EmailDispatcher implements AutoCloseable {
+
+    private record Pending(EmailMessage message, int attempt) {}
+
+    private final JavaMailSender mailSender;
+    private final BlockingQueue<Pending> queue;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private volatile boolean running = true;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public EmailDispatcher(JavaMailSender mailSender, int threads, int queueCapacity, int batchSize,
+                           int maxAttempts, long retryDelayMillis) {
+        this.mailSender = mailSender;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMillis = retryDelayMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "email-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "email-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < threads; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+//    발송 대기열에 추가 (대기열이 가득 찼거나 종료 중이면 false)
+    public boolean enqueue(EmailMessage message) {
+        if (running && queue.offer(new Pending(message, 1))) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queue.size());
+        stats.put("sent", sent.sum());
+        stats.put("failed", failed.sum());
+        stats.put("retried", retried.sum());
+        stats.put("rejected", rejected.sum());
+        return stats;
+    }
+
+//    대기열에 남은 메일을 모두 보낸 뒤 종료
+    @Override
+    public void close() {
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        retryScheduler.shutdownNow();
+        if (!queue.isEmpty()) {
+            log.warn("발송되지 않은 이메일 {}건", queue.size());
+        }
+    }
+
+    private void work() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("이메일 발송 작업 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+//    모인 메일을 한 번에 발송 (JavaMailSender 는 한 번의 send 호출에 SMTP 연결 1개 사용)
+    private void send(List<Pending> batch) {
+        Map<MimeMessage, Pending> messages = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            try {
+                messages.put(toMimeMessage(pending.message()), pending);
+            } catch (MessagingException e) {
+                failed.increment();
+                log.error("이메일 작성 실패 : {}", pending.message().to(), e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            sent.add(messages.size());
+            log.info("이메일 {}건 전송 완료", messages.size());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                messages.values().forEach(pending -> retry(pending, e));
+                return;
+            }
+//            일부만 실패한 경우 실패한 메일만 다시 시도
+            messages.forEach((mimeMessage, pending) -> {
+                Exception cause = failedMessages.get(mimeMessage);
+                if (cause == null) {
+                    sent.increment();
+                } else {
+                    retry(pending, cause);
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(pending -> retry(pending, e));
+        }
+    }
+
+    private void retry(Pending pending, Exception cause) {
+        if (pending.attempt() >= maxAttempts) {
+            failed.increment();
+            log.error("이메일 전송 실패 ({}회 시도) : {}", pending.attempt(), pending.message().to(), cause);
+            return;
+        }
+
+        retried.increment();
+        long delay = retryDelayMillis << Math.min(pending.attempt() - 1, 6);
+        log.warn("이메일 전송 재시도 예정 ({}ms 후) : {} {}", delay, pending.message().to(), cause.getMessage());
+        Pending next = new Pending(pending.message(), pending.attempt() + 1);
+        try {
+            retryScheduler.schedule(() -> {
+                if (!queue.offer(next)) {
+                    failed.increment();
+                    log.error("이메일 재시도 대기열 초과 : {}", next.message().to());
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failed.increment();
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
+        helper.setTo(message.to());
+        helper.setSubject(message.subject());
+        helper.setText(message.content());
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,4 @@
+package com.app.gradationback.mail;
+
+// 발송 대기열에 들어가는 이메일 1건
+public record EmailMessage(String to, String subject, String content) {}
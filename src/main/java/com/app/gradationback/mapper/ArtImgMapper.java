@@ -12,6 +12,9 @@ public interface ArtImgMapper {
 //    작품 이미지 등록
     public void insert(ArtImgVO artImgVO);
 
+//    작품 이미지 여러 개 한 번에 등록
+    public void insertAll(List<ArtImgVO> artImgList);
+
 //    작품 이미지 조회 (작품 ID로)
     public List<ArtImgVO> selectAllByArtId(Long artId);
 
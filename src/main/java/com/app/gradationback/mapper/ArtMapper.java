@@ -47,4 +47,13 @@ public interface ArtMapper {
 
 //    좋아요 삭제
     public void deleteAllByArtId(Long artId);
+
+//    연도별 좋아요 수 증가
+    public void mergeLikeYearIncrease(Long artId);
+
+//    연도별 좋아요 수 감소
+    public void updateLikeYearDecrease(ArtLikeVO artLikeVO);
+
+//    연도별 좋아요 수 삭제
+    public void deleteLikeYearByArtId(Long artId);
 }
@@ -16,8 +16,14 @@ public interface ArtistMapper {
 //    작가 메인페이지
     public List<ArtistDTO> selectArtistList(Map<String, Object> params);
 
-//    작가 디테일(작가정보 + history)
-    public List<ArtistDetailDTO> selectArtistById(Long userId);
+//    작가 디테일(작가정보)
+    public Optional<ArtistDetailDTO> selectArtistById(Long userId);
+
+//    작가 디테일(history)
+    public List<HistoryVO> selectHistoryListByUserId(Long userId);
+
+//    작가 이력 작성자
+    public Optional<Long> selectHistoryUserId(Long id);
 
 //    작가 디테일(작품들 썸네일)
     public List<ArtistDetailDTO> selectArtistArts(Map<String, Object> params);
@@ -26,6 +32,12 @@ public interface ArtistMapper {
 
     public Integer selectCountArtistList(Map<String, Object> params);
 
+//    작가 카드 삭제
+    public void deleteArtistCard(Long userId);
+
+//    작가 카드 생성
+    public void insertArtistCard(Long userId);
+
 //    작가 정보 수정
     public void updateArtist(UserVO userVO);
 
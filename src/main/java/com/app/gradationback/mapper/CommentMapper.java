@@ -25,6 +25,9 @@ public interface CommentMapper {
 //    댓글 전체 조회 (postId로)
     public List<CommentDTO> selectAllByPostId(Map<String, Object> params);
 
+//    댓글 좋아요 여부 (현재 페이지 댓글들)
+    public List<Long> selectLikedCommentIds(Long userId, List<Long> commentIds);
+
     public Integer selectCountComment(Map<String, Object> params);
 
 //    댓글 수정
@@ -45,11 +48,20 @@ public interface CommentMapper {
 //    댓글 좋아요 수
     public int selectCommentLikeCount(Long commentId);
 
+//    댓글 좋아요 수 증가
+    public void increaseCommentLikeCount(Long commentId);
+
+//    댓글 좋아요 수 감소
+    public void decreaseCommentLikeCount(Long commentId);
+
+//    댓글 좋아요 수 초기화
+    public void resetCommentLikeCount(Long commentId);
+
 //    댓글 좋아요 여부
     public Integer selectCommentLiked(CommentLikeVO commentLikeVO);
 
 //    댓글 좋아요 취소
-    public void deleteCommentLike(CommentLikeVO commentLikeVO);
+    public int deleteCommentLike(CommentLikeVO commentLikeVO);
 
 //    댓글 좋아요 삭제
     public void deleteAllCommentLikeByCommentId(Long commentId);
@@ -23,6 +23,9 @@ public interface ExhibitionMapper {
 //    전시회 장소 이미지 추가
     public void insertGradationImg(GradationExhibitionImgVO gradationExhibitionImgVO);
 
+//    전시회 장소 이미지 여러 개 한 번에 추가
+    public void insertGradationImgAll(List<GradationExhibitionImgVO> gradationExhibitionImgList);
+
 //    전시회 정보 수정
     public void updateGradation(GradationExhibitionVO gradationExhibitionVO);
 
@@ -39,7 +42,7 @@ public interface ExhibitionMapper {
     public List<Long> selectTop50ArtId();
 
 //    지난 전시회 등록
-    public void insertPastGradationArt(Map<String, Object> params);
+    public int insertPastGradationArt(Long gradationExhibitionId);
 
 //    지난 전시회 리스트
     public List<ExhibitionPastDTO> selectPastExhibitions();
@@ -63,15 +66,24 @@ public interface ExhibitionMapper {
 //    신청 양식(대학교 전시회 이미지)
     public void insertUniversityExhibitionImg(UniversityExhibitionDTO universityExhibitionDTO);
 
+//    신청 양식(대학교 전시회 이미지 여러 개 한 번에)
+    public void insertUniversityExhibitionImgAll(List<UniversityExhibitionDTO> universityExhibitionImgList);
+
 //    대학교 조회
     public Optional<UniversityVO> findUniversityByName(String universityName);
 
-//    전시회 정보 조회
-    public List<UniversityExhibitionDTO> selectUniversity(Map<String, Object> params);
+//    전시회 정보 조회 (승인 완료 + 종료 전)
+    public List<UniversityExhibitionDTO> selectUniversityAll();
 
 //    해당 전시회 이미지 띄우기
     public List<UniversityExhibitionImgVO> selectUniversityImgAll(Long universityExhibitionId);
 
+//    목록에 나오는 전시회 이미지 전체
+    public List<UniversityExhibitionImgVO> selectUniversityImgAllInList();
+
+//    좋아요 한 전시회 ID
+    public List<Long> selectLikedUniversityExhibitionIds(Long userId);
+
 //    좋아요 등록
     public void insertUniversityLike(UniversityLikeVO universityLikeVO);
 
@@ -1,27 +1,29 @@
 package com.app.gradationback.mapper;
 
+import com.app.gradationback.domain.MailAlertJobVO;
 import com.app.gradationback.domain.MailDTO;
 import com.app.gradationback.domain.MailVO;
 import com.app.gradationback.domain.QnaDTO;
 import org.apache.ibatis.annotations.Mapper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
 public interface MailMapper {
 
 //    이메일로 아이디 찾기
-    public Optional<MailDTO> findByIdForEmail(String receiveUserEmail);
+    public Optional<Long> findByIdForEmail(String receiveUserEmail);
 
 //    쪽지 보내기
     public void insert (MailDTO mailDTO);
 
-//    쪽지 수신함
-    public List<MailDTO> selectReceived(Long id);
+//    쪽지 수신함 (receiveUserId, lastId, size)
+    public List<MailDTO> selectReceived(Map<String, Object> params);
 
-//    내가 보낸 쪽지
-    public List<MailDTO> selectSended(Long id);
+//    내가 보낸 쪽지 (sendUserId, lastId, size)
+    public List<MailDTO> selectSended(Map<String, Object> params);
 
 //    받은 쪽지 단일조회
     public Optional<MailDTO> selectReceivedDetail(Long id, Long receiveUserId);
@@ -33,17 +35,36 @@ public interface MailMapper {
     public void deleteSendedMail(Long id);
 
 //    받은 쪽지 삭제
-    public void deleteReceivedMail(Long id);
+    public int deleteReceivedMail(Long id);
 
-//    알림리스트
-    public List<MailDTO> selectAlert(Long receiveUserId);
+//    알림리스트 (receiveUserId, lastId, size)
+    public List<MailDTO> selectAlert(Map<String, Object> params);
+
+//    알림 일괄 등록 (receiveUserIds, mailTitle, mailContent)
+    public int insertAlertAll(Map<String, Object> params);
+
+//    알림 일괄 등록 작업
+    public void insertAlertJob(MailAlertJobVO mailAlertJobVO);
+    public Optional<MailAlertJobVO> selectAlertJob(Long id);
+    public List<Long> selectAlertJobIdsToProcess(Integer staleSeconds);
+    public int updateAlertJobClaim(Long id, Integer staleSeconds);
+    public int updateAlertJobProgress(Long id, Integer fromCount, Integer doneCount);
+    public int updateAlertJobDone(Long id);
+    public int updateAlertJobRetry(Long id, String error);
+    public int updateAlertJobFailed(Long id, String error);
 
 //    알림상세
     public Optional<MailDTO> selectDetail(Long id);
 
 //    읽음처리
-    public void readUpdate (Long id, Long receiveUserId);
+    public int readUpdate (Long id, Long receiveUserId);
+
+//    읽음/삭제 전 상태 확인 (잠금)
+    public Optional<MailVO> selectForUpdate(Long id);
 
 //    읽지않은 메일 갯수 카운트
     public int countNotRead(Long receiveUserId);
+
+//    회원별 읽지않은 알림 갯수 (receiveUserId, notReadCount)
+    public List<MailDTO> selectNotReadCounts(List<Long> receiveUserIds);
 }
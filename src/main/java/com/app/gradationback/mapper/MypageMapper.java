@@ -6,6 +6,8 @@ import org.apache.ibatis.annotations.Param;
 @Mapper
 public interface MypageMapper {
     void deleteArtByAuction (Long userId);
+    void updateLikeYearByUserLikes(Long userId);
+    void deleteLikeYearByArtOfUser(Long userId);
     void deleteArtLikesByUserId(Long userId);
     void deleteArtLikesByArtOfUser(Long userId);
     void deleteExhibitionPastArtByArtOfUser(Long userId);
@@ -2,10 +2,13 @@ package com.app.gradationback.mapper;
 
 import com.app.gradationback.domain.DeliveryDTO;
 import com.app.gradationback.domain.PaymentCancellationVO;
+import com.app.gradationback.domain.PaymentOutboxVO;
 import com.app.gradationback.domain.PaymentVO;
+import com.app.gradationback.domain.PurchaseHistoryDTO;
 import org.apache.ibatis.annotations.Mapper;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
@@ -14,5 +17,18 @@ public interface PaymentMapper {
     public void insertCancel(PaymentCancellationVO paymentCancellationVO);
     public Optional<DeliveryDTO> select(Long id);
     public Optional<DeliveryDTO> selectByAuctionId(Long auctionId);
-    public List<DeliveryDTO> selectByUserId(Long userId);
+//    구매 내역 (userId, lastId, size)
+    public List<PurchaseHistoryDTO> selectHistoryByUserId(Map<String, Object> params);
+
+//    결제 승인 요청 (아웃박스)
+    public void insertOutbox(PaymentOutboxVO paymentOutboxVO);
+    public Optional<PaymentOutboxVO> selectOutbox(Long id);
+    public Optional<PaymentOutboxVO> selectOutboxByOrderId(String orderId);
+    public Optional<PaymentOutboxVO> selectOutboxForUpdate(Long id);
+    public List<Long> selectOutboxIdsToProcess(Integer staleSeconds);
+    public int updateOutboxClaim(Long id, Integer staleSeconds);
+    public void updateOutboxDone(Long id, Long paymentId);
+    public int updateOutboxRetry(Long id, String error, Integer delaySeconds);
+    public int updateOutboxFailed(Long id, String error);
+    public int updateOutboxReview(Long id, String error);
 }
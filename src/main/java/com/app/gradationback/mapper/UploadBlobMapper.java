@@ -0,0 +1,32 @@
+package com.app.gradationback.mapper;
+
+import com.app.gradationback.domain.UploadBlobVO;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface UploadBlobMapper {
+
+//    파일 참조 등록 (없으면 추가, 있으면 참조 수 +1)
+    public void mergeBlobReference(UploadBlobVO uploadBlobVO);
+
+//    등록 후 참조 수 (행 잠금, 행이 없으면 null)
+    public Integer selectBlobRefCountForUpdate(String blobName);
+
+//    파일 참조 취소 (업로드 실패 시 참조 수 -1)
+    public void updateBlobReferenceRelease(String blobName);
+
+//    이미지 테이블 기준으로 참조 수 다시 계산
+    public int updateRefCountFromReferences();
+
+//    참조가 없고 유예 시간이 지난 파일
+    public List<UploadBlobVO> selectUnreferencedBlobs(Integer graceHours);
+
+//    정리 대상이 그대로인지 확인하고 행 잠금 (다른 트랜잭션이 잠근 행은 건너뜀)
+    public Optional<UploadBlobVO> selectUnreferencedBlobForUpdate(UploadBlobVO uploadBlobVO);
+
+//    참조가 없는 파일 삭제 (그 사이 다시 참조되었으면 0)
+    public int deleteUnreferencedBlob(String blobName);
+}
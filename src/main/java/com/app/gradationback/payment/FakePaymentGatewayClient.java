@@ -0,0 +1,54 @@
+package com.app.gradationback.payment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+// 부하 테스트, 로컬 개발용 가짜 결제 승인 (payment.gateway.type=fake)
+// 실제 API 대신 지정한 지연 시간 후 토스페이먼츠와 같은 형식의 카드 결제 응답을 돌려줌
+public class FakePaymentGatewayClient implements PaymentGatewayClient {
+
+    private final ObjectMapper objectMapper;
+    private final long latencyMillis;
+    private final GatewayMetrics metrics = new GatewayMetrics();
+
+    public FakePaymentGatewayClient(ObjectMapper objectMapper, long latencyMillis) {
+        this.objectMapper = objectMapper;
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public JsonNode confirm(Map<String, Object> paymentData) {
+        long start = System.nanoTime();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        long amount = Long.parseLong(Objects.toString(paymentData.get("amount"), "0"));
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("paymentKey", Objects.toString(paymentData.get("paymentKey"), UUID.randomUUID().toString()));
+        response.put("orderId", Objects.toString(paymentData.get("orderId"), UUID.randomUUID().toString()));
+        response.put("status", "DONE");
+        response.put("method", "카드");
+        response.put("totalAmount", amount);
+        ObjectNode card = response.putObject("card");
+        card.put("issuerCode", "61");
+        card.put("amount", amount);
+
+        metrics.record(start, true);
+        return response;
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        return metrics.toMap();
+    }
+}
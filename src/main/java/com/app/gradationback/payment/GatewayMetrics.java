@@ -0,0 +1,73 @@
+package com.app.gradationback.payment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 결제 API 호출별 지연 시간 기록 (호출 수, 평균/최대, 구간별 분포)
+public class GatewayMetrics {
+
+    private static final long[] BUCKETS_MILLIS = {100, 300, 1000, 3000};
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] buckets = new LongAdder[BUCKETS_MILLIS.length + 1];
+
+    public GatewayMetrics() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+//    시도 1번의 결과 기록
+    public void record(long startNanos, boolean success) {
+        long elapsed = System.nanoTime() - startNanos;
+        calls.increment();
+        if (!success) {
+            failures.increment();
+        }
+        totalNanos.add(elapsed);
+        maxNanos.accumulate(elapsed);
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        int index = 0;
+        while (index < BUCKETS_MILLIS.length && millis >= BUCKETS_MILLIS[index]) {
+            index++;
+        }
+        buckets[index].increment();
+    }
+
+    public void retried() {
+        retries.increment();
+    }
+
+//    서킷 브레이커가 열려 있어 호출하지 않음
+    public void rejected() {
+        rejected.increment();
+    }
+
+    public Map<String, Object> toMap() {
+        long count = calls.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("calls", count);
+        stats.put("failures", failures.sum());
+        stats.put("retries", retries.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("avgMillis", count == 0 ? 0.0 : totalNanos.sum() / (double) count / 1_000_000);
+        stats.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+
+        Map<String, Long> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKETS_MILLIS.length; i++) {
+            distribution.put("<" + BUCKETS_MILLIS[i] + "ms", buckets[i].sum());
+        }
+        distribution.put(">=" + BUCKETS_MILLIS[BUCKETS_MILLIS.length - 1] + "ms", buckets[BUCKETS_MILLIS.length].sum());
+        stats.put("latency", distribution);
+        return stats;
+    }
+}
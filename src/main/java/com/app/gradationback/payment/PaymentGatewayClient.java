@@ -0,0 +1,17 @@
+package com.app.gradationback.payment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+
+// 결제 대행사(토스페이먼츠) 승인 요청
+// 구현 : TossPaymentGatewayClient (실제 API), FakePaymentGatewayClient (부하 테스트용 가짜 응답)
+public interface PaymentGatewayClient {
+
+//    결제 승인 (응답 JSON 그대로 반환, 실패 시 PaymentException)
+//    결제 서버 장애로 다시 시도해야 하는 경우는 PaymentGatewayUnavailableException
+    public JsonNode confirm(Map<String, Object> paymentData);
+
+//    호출 수, 지연 시간, 서킷 브레이커 상태 등
+    public Map<String, Object> stats();
+}
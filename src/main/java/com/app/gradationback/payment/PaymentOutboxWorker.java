@@ -0,0 +1,163 @@
+package com.app.gradationback.payment;
+
+import com.app.gradationback.domain.PaymentOutboxVO;
+import com.app.gradationback.exception.PaymentException;
+import com.app.gradationback.exception.PaymentGatewayUnavailableException;
+import com.app.gradationback.exception.PaymentResponseUnreadableException;
+import com.app.gradationback.repository.PaymentDAO;
+import com.app.gradationback.service.PaymentService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// 결제 승인 요청(TBL_PAYMENT_OUTBOX) 처리
+// 요청 선점 -> 결제 승인 API 호출 (트랜잭션 밖) -> 결제, 배송 등록 (짧은 트랜잭션) 순서로 처리해서
+// 결제 서버 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않음
+// 승인 후 등록 전에 서버가 죽으면 PROCESSING 으로 남고, 일정 시간 뒤 같은 멱등키로 다시 승인해서 등록
+@Component
+@Slf4j
+public class PaymentOutboxWorker {
+
+    private static final TypeReference<Map<String, Object>> PAYMENT_DATA_TYPE = new TypeReference<>() {};
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final PaymentDAO paymentDAO;
+    private final PaymentService paymentService;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor paymentExecutor;
+    private final int maxAttempts;
+    private final int retryDelaySeconds;
+    private final int staleSeconds;
+
+    public PaymentOutboxWorker(PaymentDAO paymentDAO, PaymentService paymentService,
+                               PaymentGatewayClient paymentGatewayClient, ObjectMapper objectMapper,
+                               @Qualifier("paymentExecutor") ThreadPoolTaskExecutor paymentExecutor,
+                               @Value("${payment.outbox.max-attempts:5}") int maxAttempts,
+                               @Value("${payment.outbox.retry-delay-seconds:10}") int retryDelaySeconds,
+                               @Value("${payment.outbox.stale-seconds:120}") int staleSeconds) {
+        this.paymentDAO = paymentDAO;
+        this.paymentService = paymentService;
+        this.paymentGatewayClient = paymentGatewayClient;
+        this.objectMapper = objectMapper;
+        this.paymentExecutor = paymentExecutor;
+        this.maxAttempts = maxAttempts;
+        this.retryDelaySeconds = retryDelaySeconds;
+        this.staleSeconds = staleSeconds;
+    }
+
+//    결제 승인 요청 비동기 처리 (처리 후 요청 상태 반환)
+    public CompletableFuture<PaymentOutboxVO> dispatch(Long outboxId) {
+        try {
+            return CompletableFuture.supplyAsync(() -> process(outboxId), paymentExecutor);
+        } catch (TaskRejectedException e) {
+//            큐가 가득 찬 경우 PENDING 으로 남겨두고 스케줄러가 처리
+            log.warn("결제 승인 대기열 초과 : {}", outboxId);
+            return CompletableFuture.completedFuture(paymentDAO.findOutbox(outboxId).orElse(null));
+        }
+    }
+
+//    결제 승인 요청 1건 처리
+    public PaymentOutboxVO process(Long outboxId) {
+        if (!paymentDAO.claimOutbox(outboxId, staleSeconds)) {
+//            이미 다른 스레드/서버가 처리 중이거나 끝난 요청
+            return paymentDAO.findOutbox(outboxId).orElse(null);
+        }
+        PaymentOutboxVO paymentOutboxVO = paymentDAO.findOutbox(outboxId)
+                .orElseThrow(() -> new PaymentException("결제 요청 조회 실패"));
+//        처리 중 서버가 계속 죽어서 횟수를 넘긴 요청은 다시 승인하지 않음
+        if (Optional.ofNullable(paymentOutboxVO.getOutboxAttempt()).orElse(1) > maxAttempts) {
+            log.error("결제 승인 시도 횟수 초과, 관리자 확인 필요 : {}", outboxId);
+            paymentDAO.updateOutboxReview(outboxId, "시도 횟수 초과");
+            return paymentDAO.findOutbox(outboxId).orElse(null);
+        }
+
+        try {
+            Map<String, Object> paymentData = objectMapper.readValue(paymentOutboxVO.getPaymentData(), PAYMENT_DATA_TYPE);
+            JsonNode responseNode = paymentGatewayClient.confirm(paymentData);
+            paymentService.completePayment(outboxId, paymentData, responseNode);
+        } catch (PaymentGatewayUnavailableException e) {
+            retryOrFail(paymentOutboxVO, e);
+        } catch (PaymentResponseUnreadableException e) {
+//            결제 서버는 2xx 로 응답 -> 이미 결제되었을 수 있으므로 실패 처리하지 않고 관리자 확인 대기
+            log.error("결제 승인 응답 확인 불가, 관리자 확인 필요 : {}", outboxId, e);
+            paymentDAO.updateOutboxReview(outboxId, errorMessage(e));
+        } catch (PaymentException | JsonProcessingException e) {
+//            카드 거절, 잘못된 요청 등 다시 시도해도 실패하는 경우
+            log.warn("결제 승인 실패 : {} {}", outboxId, e.getMessage());
+            paymentDAO.updateOutboxFailed(outboxId, errorMessage(e));
+        } catch (RuntimeException e) {
+//            결제, 배송 등록 실패 (DB 오류 등)
+//            승인은 끝났을 수 있으므로 실패 처리하지 않고 같은 멱등키로 다시 승인해서 등록
+//            횟수를 넘으면 REVIEW 로 멈추고 관리자가 확인 (계속 승인 API 를 호출하지 않음)
+            log.error("결제 등록 실패 : {}", outboxId, e);
+            try {
+                retryOrReview(paymentOutboxVO, e);
+            } catch (RuntimeException ignored) {
+//                상태 변경도 실패하면 PROCESSING 으로 남겨두고 스케줄러가 다시 처리
+            }
+        }
+        return paymentDAO.findOutbox(outboxId).orElse(null);
+    }
+
+//    처리되지 않은 요청 다시 처리 (재시도 대기, 서버 재시작 등으로 멈춘 요청)
+    @Scheduled(initialDelayString = "${payment.outbox.poll-initial-delay-ms:30000}", fixedDelayString = "${payment.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            List<Long> outboxIds = paymentDAO.findOutboxIdsToProcess(staleSeconds);
+            for (Long outboxId : outboxIds) {
+                dispatch(outboxId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("결제 승인 요청 조회 실패", e);
+        }
+    }
+
+//    남은 횟수가 있으면 점점 늘어나는 간격으로 다시 시도, 없으면 실패 처리
+    private void retryOrFail(PaymentOutboxVO paymentOutboxVO, Exception e) {
+//        시도 횟수는 선점할 때 이미 1 증가
+        int attempt = Optional.ofNullable(paymentOutboxVO.getOutboxAttempt()).orElse(1);
+        if (attempt >= maxAttempts) {
+            log.warn("결제 승인 재시도 초과 : {} {}", paymentOutboxVO.getId(), e.getMessage());
+            paymentDAO.updateOutboxFailed(paymentOutboxVO.getId(), errorMessage(e));
+            return;
+        }
+        int delaySeconds = delaySeconds(attempt);
+        log.info("결제 승인 재시도 예정 : {} ({}회, {}초 후)", paymentOutboxVO.getId(), attempt, delaySeconds);
+        paymentDAO.updateOutboxRetry(paymentOutboxVO.getId(), errorMessage(e), delaySeconds);
+    }
+
+//    등록 실패 : 남은 횟수가 있으면 다시 시도, 없으면 관리자 확인 대기
+    private void retryOrReview(PaymentOutboxVO paymentOutboxVO, Exception e) {
+        int attempt = Optional.ofNullable(paymentOutboxVO.getOutboxAttempt()).orElse(1);
+        if (attempt >= maxAttempts) {
+            log.error("결제 등록 재시도 초과, 관리자 확인 필요 : {}", paymentOutboxVO.getId());
+            paymentDAO.updateOutboxReview(paymentOutboxVO.getId(), errorMessage(e));
+            return;
+        }
+        paymentDAO.updateOutboxRetry(paymentOutboxVO.getId(), errorMessage(e), delaySeconds(attempt));
+    }
+
+//    시도할수록 간격을 두 배로 (최대 64배)
+    private int delaySeconds(int attempt) {
+        return retryDelaySeconds << Math.min(attempt - 1, 6);
+    }
+
+    private String errorMessage(Exception e) {
+        String message = String.valueOf(e.getMessage());
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,151 @@
+package com.app.gradationback.payment;
+
+import com.app.gradationback.exception.PaymentException;
+import com.app.gradationback.exception.PaymentGatewayUnavailableException;
+import com.app.gradationback.exception.PaymentResponseUnreadableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 토스페이먼츠 결제 승인 API 클라이언트
+// RestTemplate 은 커넥션 풀(PaymentGatewayConfig)을 공유하고, 인증 헤더는 한 번만 만들어 둠
+// 같은 결제 건은 Idempotency-Key 가 같으므로 타임아웃, 5xx 에서 재시도해도 중복 승인되지 않음
+@Slf4j
+public class TossPaymentGatewayClient implements PaymentGatewayClient {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final String apiUrl;
+    private final String authorization;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final CircuitBreaker circuitBreaker;
+    private final GatewayMetrics metrics = new GatewayMetrics();
+
+    public TossPaymentGatewayClient(RestTemplate restTemplate, ObjectMapper objectMapper, String apiUrl, String apiKey,
+                                    int maxRetries, long retryBackoffMillis, CircuitBreaker circuitBreaker) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.apiUrl = apiUrl;
+//        API키를 Base64로 인코딩
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString((apiKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public JsonNode confirm(Map<String, Object> paymentData) {
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.rejected();
+            throw new PaymentGatewayUnavailableException("결제 서버가 응답하지 않아 잠시 후 다시 시도해주세요.");
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        headers.set("Idempotency-Key", idempotencyKey(paymentData));
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(paymentData, headers);
+
+        RuntimeException lastError = null;
+//        어떤 예외로 끝나든 서킷 브레이커에 결과를 알림 (HALF_OPEN 시험 호출이 계속 잡혀 있지 않도록)
+        boolean settled = false;
+        try {
+            for (int attempt = 0; attempt <= maxRetries; attempt++) {
+                if (attempt > 0) {
+                    metrics.retried();
+                    if (!sleep(retryBackoffMillis << (attempt - 1))) {
+                        break;
+                    }
+                }
+
+                long start = System.nanoTime();
+                ResponseEntity<String> response;
+                try {
+                    response = restTemplate.exchange(apiUrl, HttpMethod.POST, entity, String.class);
+                } catch (HttpClientErrorException e) {
+//                    카드 거절, 잘못된 요청 등은 재시도하지 않음 (결제 서버는 정상)
+                    metrics.record(start, false);
+                    circuitBreaker.onSuccess();
+                    settled = true;
+                    throw new PaymentException("결제 승인 실패 : " + e.getResponseBodyAsString(), e);
+                } catch (RestClientException e) {
+//                    5xx, 타임아웃, 알 수 없는 상태 코드 등 -> 같은 멱등키로 재시도
+                    metrics.record(start, false);
+                    lastError = e;
+                    log.warn("결제 승인 요청 실패 ({}/{}) : {}", attempt + 1, maxRetries + 1, e.getMessage());
+                    continue;
+                }
+
+                metrics.record(start, true);
+                circuitBreaker.onSuccess();
+                settled = true;
+                return readBody(response.getBody());
+            }
+
+            circuitBreaker.onFailure();
+            settled = true;
+            throw new PaymentGatewayUnavailableException("결제 서버 오류", lastError);
+        } finally {
+            if (!settled) {
+                circuitBreaker.onFailure();
+            }
+        }
+    }
+
+//    응답 본문 파싱 (결제 서버는 응답했으므로 실패해도 재시도하지 않음)
+//    2xx 인데 본문을 읽을 수 없으면 승인은 되었을 수 있으므로 거절과 구분
+    private JsonNode readBody(String body) {
+        if (body == null || body.isBlank()) {
+            throw new PaymentResponseUnreadableException("결제 승인 응답 없음");
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new PaymentResponseUnreadableException("결제 승인 응답을 읽을 수 없음", e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>(metrics.toMap());
+        stats.put("circuit", circuitBreaker.getState());
+        return stats;
+    }
+
+//    결제 건마다 고유한 paymentKey 사용 (없으면 주문번호)
+    private String idempotencyKey(Map<String, Object> paymentData) {
+        Object key = paymentData.get("paymentKey");
+        if (key == null) {
+            key = paymentData.get("orderId");
+        }
+        return key != null ? key.toString() : UUID.randomUUID().toString();
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
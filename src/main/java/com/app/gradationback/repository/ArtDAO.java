@@ -75,4 +75,19 @@ public class ArtDAO {
         artMapper.deleteAllByArtId(artId);
     }
 
+//    연도별 좋아요 수 증가
+    public void increaseLikeYear(Long artId) {
+        artMapper.mergeLikeYearIncrease(artId);
+    }
+
+//    연도별 좋아요 수 감소
+    public void decreaseLikeYear(ArtLikeVO artLikeVO) {
+        artMapper.updateLikeYearDecrease(artLikeVO);
+    }
+
+//    연도별 좋아요 수 삭제
+    public void deleteLikeYear(Long artId) {
+        artMapper.deleteLikeYearByArtId(artId);
+    }
+
 }
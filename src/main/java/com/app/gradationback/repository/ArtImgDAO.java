@@ -19,6 +19,11 @@ public class ArtImgDAO {
         artImgMapper.insert(artImgVO);
     }
 
+//    작품 이미지 여러 개 한 번에 등록
+    public void saveAll(List<ArtImgVO> artImgList) {
+        artImgMapper.insertAll(artImgList);
+    }
+
     public List<ArtImgVO> findAllByArtId(Long artId) {
         return artImgMapper.selectAllByArtId(artId);
     }
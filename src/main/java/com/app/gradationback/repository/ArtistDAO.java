@@ -23,11 +23,21 @@ public class ArtistDAO {
         return artistMapper.selectArtistList(params);
     }
 
-    //    작가 디테일(작가 정보 + history)
-    public List<ArtistDetailDTO> findMyArtistById(Long userId) {
+    //    작가 디테일(작가 정보)
+    public Optional<ArtistDetailDTO> findMyArtistById(Long userId) {
         return artistMapper.selectArtistById(userId);
     }
 
+    //    작가 디테일(history)
+    public List<HistoryVO> findHistoryListByUserId(Long userId) {
+        return artistMapper.selectHistoryListByUserId(userId);
+    }
+
+    //    작가 이력 작성자
+    public Optional<Long> findHistoryUserId(Long id) {
+        return artistMapper.selectHistoryUserId(id);
+    }
+
     //    작가 디테일(작품들 썸네일)
     public List<ArtistDetailDTO> findArtistArts(Map<String, Object> params) {
         return artistMapper.selectArtistArts(params);
@@ -41,6 +51,17 @@ public class ArtistDAO {
         return artistMapper.selectCountArtistList(params);
     }
 
+    //    작가 카드 갱신 (삭제 후 다시 생성, 조건에 맞지 않으면 생성되지 않음)
+    public void refreshArtistCard(Long userId) {
+        artistMapper.deleteArtistCard(userId);
+        artistMapper.insertArtistCard(userId);
+    }
+
+    //    작가 카드 삭제
+    public void deleteArtistCard(Long userId) {
+        artistMapper.deleteArtistCard(userId);
+    }
+
     //    작가 정보 수정
     public void updateArtist(UserVO userVO) {
         artistMapper.updateArtist(userVO);
@@ -40,6 +40,11 @@ public class CommentDAO {
         return commentMapper.selectAllByPostId(params);
     }
 
+//    댓글 좋아요 여부 (현재 페이지 댓글들)
+    public List<Long> findLikedCommentIds(Long userId, List<Long> commentIds) {
+        return commentMapper.selectLikedCommentIds(userId, commentIds);
+    }
+
     public Integer findCountComment(Map<String, Object> params) {
         return commentMapper.selectCountComment(params);
     }
@@ -74,14 +79,29 @@ public class CommentDAO {
         return commentMapper.selectCommentLikeCount(commentId);
     }
 
+//    댓글 좋아요 수 증가
+    public void increaseCommentLikeCount(Long commentId) {
+        commentMapper.increaseCommentLikeCount(commentId);
+    }
+
+//    댓글 좋아요 수 감소
+    public void decreaseCommentLikeCount(Long commentId) {
+        commentMapper.decreaseCommentLikeCount(commentId);
+    }
+
+//    댓글 좋아요 수 초기화
+    public void resetCommentLikeCount(Long commentId) {
+        commentMapper.resetCommentLikeCount(commentId);
+    }
+
 //    댓글 좋아요 여부
     public Integer findCommentLiked(CommentLikeVO commentLikeVO) {
         return commentMapper.selectCommentLiked(commentLikeVO);
     }
 
 //    댓글 좋아요 삭제
-    public void deleteCommentLike(CommentLikeVO commentLikeVO) {
-        commentMapper.deleteCommentLike(commentLikeVO);
+    public int deleteCommentLike(CommentLikeVO commentLikeVO) {
+        return commentMapper.deleteCommentLike(commentLikeVO);
     }
 
 //    댓글 좋아요 전체 삭제
@@ -37,13 +37,18 @@ public class ExhibitionDAO {
         exhibitionMapper.insertGradationImg(gradationExhibitionImgVO);
     }
 
+//    전시회 장소 이미지 여러 개 한 번에 추가
+    public void saveGradationImages(List<GradationExhibitionImgVO> gradationExhibitionImgList) {
+        exhibitionMapper.insertGradationImgAll(gradationExhibitionImgList);
+    }
+
     //    올해 좋아요 50개 작품 id값
     public List<Long> findTop50ArtId() {
         return exhibitionMapper.selectTop50ArtId();
     }
     //    지난 전시회 등록
-    public void savePastExhibition(Map<String, Object> params) {
-        exhibitionMapper.insertPastGradationArt(params);
+    public int savePastExhibition(Long gradationExhibitionId) {
+        return exhibitionMapper.insertPastGradationArt(gradationExhibitionId);
     }
 
     //    전시회 정보 수정
@@ -101,14 +106,19 @@ public class ExhibitionDAO {
         exhibitionMapper.insertUniversityExhibitionImg(universityExhibitionDTO);
     }
 
+//    신청 양식(대학교 전시회 이미지 여러 개 한 번에)
+    public void saveUniversityExhibitionImgs(List<UniversityExhibitionDTO> universityExhibitionImgList) {
+        exhibitionMapper.insertUniversityExhibitionImgAll(universityExhibitionImgList);
+    }
+
 //    대학교 조회
     public Optional<UniversityVO> findUniversityByName(String universityName) {
         return exhibitionMapper.findUniversityByName(universityName);
     }
 
-//    대학 전시회 정보 조회
-    public List<UniversityExhibitionDTO> findUniversity(Map<String, Object> params) {
-        return exhibitionMapper.selectUniversity(params);
+//    대학 전시회 정보 조회 (승인 완료 + 종료 전)
+    public List<UniversityExhibitionDTO> findUniversityAll() {
+        return exhibitionMapper.selectUniversityAll();
     }
 
 //    대학 전시회 이미지 조회
@@ -116,6 +126,16 @@ public class ExhibitionDAO {
         return exhibitionMapper.selectUniversityImgAll(universityExhibitionId);
     }
 
+//    대학 전시회 이미지 조회 (목록 전체)
+    public List<UniversityExhibitionImgVO> findUniversityImgAllInList() {
+        return exhibitionMapper.selectUniversityImgAllInList();
+    }
+
+//    좋아요 한 전시회 ID
+    public List<Long> findLikedUniversityExhibitionIds(Long userId) {
+        return exhibitionMapper.selectLikedUniversityExhibitionIds(userId);
+    }
+
 //    좋아요 등록
     public void saveUniversityLike(UniversityLikeVO universityLikeVO) {
         exhibitionMapper.insertUniversityLike(universityLikeVO);
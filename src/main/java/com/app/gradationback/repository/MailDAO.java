@@ -1,11 +1,14 @@
 package com.app.gradationback.repository;
 
+import com.app.gradationback.domain.MailAlertJobVO;
 import com.app.gradationback.domain.MailDTO;
+import com.app.gradationback.domain.MailVO;
 import com.app.gradationback.mapper.MailMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -15,7 +18,7 @@ public class MailDAO {
     private final MailMapper mailMapper;
 
 //    이메일로 아이디 찾기
-    public Optional<MailDTO> findByIdForEmail(String receiveUserEmail) {
+    public Optional<Long> findByIdForEmail(String receiveUserEmail) {
         return mailMapper.findByIdForEmail(receiveUserEmail);
     }
 
@@ -25,13 +28,13 @@ public class MailDAO {
     }
 
 //    받은쪽지 리스트
-    public List<MailDTO> getReceivedList(Long receiveUserId) {
-        return mailMapper.selectReceived(receiveUserId);
+    public List<MailDTO> getReceivedList(Map<String, Object> params) {
+        return mailMapper.selectReceived(params);
     }
 
 //    보낸쪽지 리스트
-    public List<MailDTO> getSendedList(Long sendUserId) {
-        return mailMapper.selectSended(sendUserId);
+    public List<MailDTO> getSendedList(Map<String, Object> params) {
+        return mailMapper.selectSended(params);
     }
 
 //    받은쪽지 단일조회
@@ -45,8 +48,8 @@ public class MailDAO {
     }
 
 //    받은쪽지 삭제
-    public void deleteReceived(Long id) {
-        mailMapper.deleteReceivedMail(id);
+    public int deleteReceived(Long id) {
+        return mailMapper.deleteReceivedMail(id);
     }
 
 //    보낸쪽지 삭제
@@ -55,8 +58,53 @@ public class MailDAO {
     }
 
 //    알림리스트
-    public List<MailDTO> getAlertList(Long receiveUserId) {
-        return mailMapper.selectAlert(receiveUserId);
+    public List<MailDTO> getAlertList(Map<String, Object> params) {
+        return mailMapper.selectAlert(params);
+    }
+
+//    알림 일괄 등록
+    public int saveAlerts(Map<String, Object> params) {
+        return mailMapper.insertAlertAll(params);
+    }
+
+//    알림 일괄 등록 작업 저장
+    public void saveAlertJob(MailAlertJobVO mailAlertJobVO) {
+        mailMapper.insertAlertJob(mailAlertJobVO);
+    }
+
+//    알림 일괄 등록 작업 조회
+    public Optional<MailAlertJobVO> findAlertJob(Long id) {
+        return mailMapper.selectAlertJob(id);
+    }
+
+//    처리할 알림 일괄 등록 작업
+    public List<Long> findAlertJobIdsToProcess(Integer staleSeconds) {
+        return mailMapper.selectAlertJobIdsToProcess(staleSeconds);
+    }
+
+//    처리 시작 (가져가면 true)
+    public boolean claimAlertJob(Long id, Integer staleSeconds) {
+        return mailMapper.updateAlertJobClaim(id, staleSeconds) == 1;
+    }
+
+//    등록을 마친 대상 수 변경 (다른 곳에서 먼저 진행했으면 false)
+    public boolean updateAlertJobProgress(Long id, Integer fromCount, Integer doneCount) {
+        return mailMapper.updateAlertJobProgress(id, fromCount, doneCount) == 1;
+    }
+
+//    처리 완료
+    public void updateAlertJobDone(Long id) {
+        mailMapper.updateAlertJobDone(id);
+    }
+
+//    다시 시도
+    public void updateAlertJobRetry(Long id, String error) {
+        mailMapper.updateAlertJobRetry(id, error);
+    }
+
+//    실패
+    public void updateAlertJobFailed(Long id, String error) {
+        mailMapper.updateAlertJobFailed(id, error);
     }
 
 //    알림상세
@@ -65,8 +113,13 @@ public class MailDAO {
     }
 
 //    읽음처리
-    public void readUpdate(Long id, Long receiveUserId) {
-        mailMapper.readUpdate(id, receiveUserId);
+    public int readUpdate(Long id, Long receiveUserId) {
+        return mailMapper.readUpdate(id, receiveUserId);
+    }
+
+//    읽음/삭제 전 상태 확인 (잠금)
+    public Optional<MailVO> findForUpdate(Long id) {
+        return mailMapper.selectForUpdate(id);
     }
 
 //    읽지않은 메일 갯수 카운트
@@ -74,4 +127,9 @@ public class MailDAO {
         return mailMapper.countNotRead(receiveUserId);
     }
 
+//    회원별 읽지않은 알림 갯수
+    public List<MailDTO> findNotReadCounts(List<Long> receiveUserIds) {
+        return mailMapper.selectNotReadCounts(receiveUserIds);
+    }
+
 }
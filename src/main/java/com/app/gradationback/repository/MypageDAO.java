@@ -14,7 +14,9 @@ public class MypageDAO {
     public void deleteUserAllData(Long userId) {
 
         mypageMapper.deleteArtByAuction(userId);
-        // 좋아요
+        // 좋아요 (연도별 좋아요 수를 먼저 맞춘 뒤 삭제)
+        mypageMapper.updateLikeYearByUserLikes(userId);
+        mypageMapper.deleteLikeYearByArtOfUser(userId);
         mypageMapper.deleteArtLikesByUserId(userId);
         mypageMapper.deleteArtLikesByArtOfUser(userId);
 
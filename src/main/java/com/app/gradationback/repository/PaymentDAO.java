@@ -2,12 +2,15 @@ package com.app.gradationback.repository;
 
 import com.app.gradationback.domain.DeliveryDTO;
 import com.app.gradationback.domain.PaymentCancellationVO;
+import com.app.gradationback.domain.PaymentOutboxVO;
 import com.app.gradationback.domain.PaymentVO;
+import com.app.gradationback.domain.PurchaseHistoryDTO;
 import com.app.gradationback.mapper.PaymentMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -36,9 +39,59 @@ public class PaymentDAO {
         return paymentMapper.selectByAuctionId(auctionId);
     }
 
-//    유저 결제 리스트 조회
-    public List<DeliveryDTO> findAllByUserId(Long userId) {
-        return paymentMapper.selectByUserId(userId);
+//    유저 구매 내역 조회 (userId, lastId, size)
+    public List<PurchaseHistoryDTO> findHistoryByUserId(Map<String, Object> params) {
+        return paymentMapper.selectHistoryByUserId(params);
+    }
+
+//    결제 승인 요청 등록
+    public void saveOutbox(PaymentOutboxVO paymentOutboxVO) {
+        paymentMapper.insertOutbox(paymentOutboxVO);
+    }
+
+//    결제 승인 요청 조회
+    public Optional<PaymentOutboxVO> findOutbox(Long id) {
+        return paymentMapper.selectOutbox(id);
+    }
+
+//    결제 승인 요청 조회 (주문 번호로)
+    public Optional<PaymentOutboxVO> findOutboxByOrderId(String orderId) {
+        return paymentMapper.selectOutboxByOrderId(orderId);
+    }
+
+//    결제 승인 요청 조회 (잠금)
+    public Optional<PaymentOutboxVO> findOutboxForUpdate(Long id) {
+        return paymentMapper.selectOutboxForUpdate(id);
+    }
+
+//    처리할 결제 승인 요청
+    public List<Long> findOutboxIdsToProcess(Integer staleSeconds) {
+        return paymentMapper.selectOutboxIdsToProcess(staleSeconds);
+    }
+
+//    처리 시작 (가져가면 true)
+    public boolean claimOutbox(Long id, Integer staleSeconds) {
+        return paymentMapper.updateOutboxClaim(id, staleSeconds) == 1;
+    }
+
+//    처리 완료
+    public void updateOutboxDone(Long id, Long paymentId) {
+        paymentMapper.updateOutboxDone(id, paymentId);
+    }
+
+//    다시 시도
+    public void updateOutboxRetry(Long id, String error, Integer delaySeconds) {
+        paymentMapper.updateOutboxRetry(id, error, delaySeconds);
+    }
+
+//    실패
+    public void updateOutboxFailed(Long id, String error) {
+        paymentMapper.updateOutboxFailed(id, error);
+    }
+
+//    관리자 확인 필요
+    public void updateOutboxReview(Long id, String error) {
+        paymentMapper.updateOutboxReview(id, error);
     }
 
 
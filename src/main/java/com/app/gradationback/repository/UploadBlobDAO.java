@@ -0,0 +1,51 @@
+package com.app.gradationback.repository;
+
+import com.app.gradationback.domain.UploadBlobVO;
+import com.app.gradationback.mapper.UploadBlobMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class UploadBlobDAO {
+
+    private final UploadBlobMapper uploadBlobMapper;
+
+//    파일 참조 등록
+    public void saveReference(UploadBlobVO uploadBlobVO) {
+        uploadBlobMapper.mergeBlobReference(uploadBlobVO);
+    }
+
+//    등록 후 참조 수 (트랜잭션이 끝날 때까지 행 잠금)
+    public Integer findRefCountForUpdate(String blobName) {
+        return uploadBlobMapper.selectBlobRefCountForUpdate(blobName);
+    }
+
+//    파일 참조 취소
+    public void releaseReference(String blobName) {
+        uploadBlobMapper.updateBlobReferenceRelease(blobName);
+    }
+
+//    참조 수 다시 계산
+    public int updateRefCount() {
+        return uploadBlobMapper.updateRefCountFromReferences();
+    }
+
+//    정리 대상 파일 조회
+    public List<UploadBlobVO> findUnreferenced(Integer graceHours) {
+        return uploadBlobMapper.selectUnreferencedBlobs(graceHours);
+    }
+
+//    정리 대상 확인 + 행 잠금
+    public Optional<UploadBlobVO> findUnreferencedForUpdate(UploadBlobVO uploadBlobVO) {
+        return uploadBlobMapper.selectUnreferencedBlobForUpdate(uploadBlobVO);
+    }
+
+//    정리 대상 파일 삭제
+    public int deleteUnreferenced(String blobName) {
+        return uploadBlobMapper.deleteUnreferencedBlob(blobName);
+    }
+}
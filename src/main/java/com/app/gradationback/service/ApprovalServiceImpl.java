@@ -1,18 +1,29 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.UniversityExhibitionCache;
+import com.app.gradationback.cache.UserPrincipalCache;
 import com.app.gradationback.domain.*;
 import com.app.gradationback.repository.ApprovalDAO;
+import com.app.gradationback.repository.ArtDAO;
+import com.app.gradationback.repository.ArtistDAO;
+import com.app.gradationback.util.AfterCommitUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(rollbackFor = Exception.class)
 public class ApprovalServiceImpl implements ApprovalService {
 
     private final ApprovalDAO approvalDAO;
+    private final ArtDAO artDAO;
+    private final ArtistDAO artistDAO;
+    private final UniversityExhibitionCache universityExhibitionCache;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
 //    리스트 객체 타입은 4개 중 하나가 들어오므로 와일드카드로, 스트링 타입으로 항목 식별(upcycling, art 등)
@@ -70,10 +81,14 @@ public class ApprovalServiceImpl implements ApprovalService {
         switch (type.toLowerCase()){
 //          오브젝트 DTO로 형변환(다운캐스팅)
             case "upcycling" -> approvalDAO.updateUpcyclingStatus((UpcyclingDTO) dto);
-            case "art", "display" -> approvalDAO.updateArtStatus((ArtDTO) dto);
-            case "writer" -> approvalDAO.updateWriterStatus((UserVO) dto );
-            case "university" -> approvalDAO.updateUniversityStatus((UserVO) dto );
-            case "exhibition" -> approvalDAO.updateUniversityExhibitionStatus((UniversityExhibitionDTO) dto);
+            case "art", "display" -> updateDisplayStatus((ArtDTO) dto);
+            case "writer" -> {
+                approvalDAO.updateWriterStatus((UserVO) dto);
+                artistDAO.refreshArtistCard(((UserVO) dto).getId());
+                AfterCommitUtil.run(userPrincipalCache::invalidateAll);
+            }
+            case "university" -> updateUniversityStatus((UserVO) dto);
+            case "exhibition" -> updateUniversityExhibitionStatus((UniversityExhibitionDTO) dto);
             default -> throw new RuntimeException("지원하지 않는 타입");
         }
 
@@ -82,11 +97,15 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public void updateDisplayStatus(ArtDTO dto) {
         approvalDAO.updateArtStatus(dto);
+//        작품 승인 상태가 바뀌면 작가 카드 갱신
+        artDAO.findById(dto.getId()).ifPresent(art -> artistDAO.refreshArtistCard(art.getUserId()));
     }
 
     @Override
     public void updateUniversityExhibitionStatus(UniversityExhibitionDTO dto) {
         approvalDAO.updateUniversityExhibitionStatus(dto);
+//        승인 상태가 바뀌면 대학 전시회 목록 캐시 무효화
+        AfterCommitUtil.run(universityExhibitionCache::invalidate);
     }
 
     @Override
@@ -97,5 +116,6 @@ public class ApprovalServiceImpl implements ApprovalService {
     @Override
     public void updateUniversityStatus(UserVO dto) {
         approvalDAO.updateUniversityStatus(dto);
+        AfterCommitUtil.run(userPrincipalCache::invalidateAll);
     }
 }
@@ -10,6 +10,9 @@ public interface ArtImgService {
 //    작품 이미지 등록
     public void register(ArtImgVO artImgVO);
 
+//    작품 이미지 여러 개 등록
+    public void registerAll(List<ArtImgVO> artImgList);
+
     public List<ArtImgVO> getArtImgListByArtId(Long artId);
 
 //    작품 이미지 전체 삭제 (작품 ID로)
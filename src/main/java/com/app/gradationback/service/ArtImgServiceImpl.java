@@ -22,6 +22,14 @@ public class ArtImgServiceImpl implements ArtImgService {
         artImgDAO.save(artImgVO);
     }
 
+//    작품 이미지 여러 개 등록
+    @Override
+    public void registerAll(List<ArtImgVO> artImgList) {
+        if (!artImgList.isEmpty()) {
+            artImgDAO.saveAll(artImgList);
+        }
+    }
+
     @Override
     public List<ArtImgVO> getArtImgListByArtId(Long artId) {
         return artImgDAO.findAllByArtId(artId);
@@ -3,6 +3,7 @@ package com.app.gradationback.service;
 import com.app.gradationback.domain.ArtLikeVO;
 import com.app.gradationback.repository.ArtDAO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +19,7 @@ public class ArtLikeServiceImpl implements ArtLikeService {
     public void register(ArtLikeVO artLikeVO) {
         if(!getLiked(artLikeVO)) {
             artDAO.saveLike(artLikeVO);
+            increaseLikeYear(artLikeVO.getArtId());
         }
     }
 
@@ -40,6 +42,7 @@ public class ArtLikeServiceImpl implements ArtLikeService {
     @Override
     public void remove(ArtLikeVO artLikeVO) {
         if(getLiked(artLikeVO)) {
+            artDAO.decreaseLikeYear(artLikeVO);
             artDAO.deleteLike(artLikeVO);
         }
     }
@@ -48,5 +51,16 @@ public class ArtLikeServiceImpl implements ArtLikeService {
     @Override
     public void removeAll(Long artId) {
         artDAO.deleteAllLike(artId);
+        artDAO.deleteLikeYear(artId);
+    }
+
+//    연도별 좋아요 수 증가
+//    같은 작품의 그 해 첫 좋아요가 동시에 들어오면 MERGE 가 중복키로 실패할 수 있으므로 한 번 더 시도
+    private void increaseLikeYear(Long artId) {
+        try {
+            artDAO.increaseLikeYear(artId);
+        } catch (DuplicateKeyException e) {
+            artDAO.increaseLikeYear(artId);
+        }
     }
 }
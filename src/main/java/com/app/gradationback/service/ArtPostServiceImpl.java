@@ -1,12 +1,15 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.CommentCountCache;
 import com.app.gradationback.domain.ArtPostDTO;
 import com.app.gradationback.domain.ArtPostVO;
 import com.app.gradationback.domain.ArtVO;
 import com.app.gradationback.repository.ArtDAO;
 import com.app.gradationback.repository.ArtImgDAO;
 import com.app.gradationback.repository.ArtPostDAO;
+import com.app.gradationback.repository.ArtistDAO;
 import com.app.gradationback.repository.CommentDAO;
+import com.app.gradationback.util.AfterCommitUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,8 @@ public class ArtPostServiceImpl implements ArtPostService {
     private final ArtImgDAO artImgDAO;
     private final ArtDAO artDAO;
     private final CommentDAO commentDAO;
+    private final ArtistDAO artistDAO;
+    private final CommentCountCache commentCountCache;
 
 //    작품 게시글 등록 (작품 정보 + 작품 게시글)
     @Override
@@ -145,10 +150,14 @@ public class ArtPostServiceImpl implements ArtPostService {
             Long postId = post.getId();
             Long artId = post.getArtId();
             commentDAO.deleteAllByPostId(postId);
+            AfterCommitUtil.run(() -> commentCountCache.invalidate(postId));
             artDAO.deleteAllLike(artId);
+            artDAO.deleteLikeYear(artId);
             artPostDAO.deleteById(postId);
             artImgDAO.deleteAllByArtId(artId);
             artDAO.deleteById(artId);
+//            작가 카드 갱신 (대표 이미지, 게시글 수)
+            artistDAO.refreshArtistCard(post.getUserId());
         });
     }
 }
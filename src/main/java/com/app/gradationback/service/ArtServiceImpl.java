@@ -5,6 +5,7 @@ import com.app.gradationback.domain.ArtVO;
 import com.app.gradationback.repository.ArtDAO;
 import com.app.gradationback.repository.ArtImgDAO;
 import com.app.gradationback.repository.ArtPostDAO;
+import com.app.gradationback.repository.ArtistDAO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +22,7 @@ public class ArtServiceImpl implements ArtService {
     private final ArtDAO artDAO;
     private final ArtImgDAO artImgDAO;
     private final ArtPostDAO artPostDAO;
+    private final ArtistDAO artistDAO;
 
 //    작품 등록
     @Override
@@ -30,12 +32,15 @@ public class ArtServiceImpl implements ArtService {
 
     @Override
     public void removeArtById(Long id) {
+        Optional<ArtVO> foundArt = artDAO.findById(id);
 //        게시글 삭제
         artPostDAO.deleteAllByArtId(id);
 //        작품 이미지 삭제
         artImgDAO.deleteAllByArtId(id);
 //        작품 삭제
         artDAO.deleteById(id);
+//        작가 카드 갱신
+        foundArt.ifPresent(art -> artistDAO.refreshArtistCard(art.getUserId()));
     }
 
 //    작품 단일 조회
@@ -60,5 +65,6 @@ public class ArtServiceImpl implements ArtService {
     @Override
     public void updateArtStatus(ArtDTO artDTO) {
         artDAO.updateStatus(artDTO);
+        artDAO.findById(artDTO.getId()).ifPresent(art -> artistDAO.refreshArtistCard(art.getUserId()));
     }
 }
@@ -13,7 +13,7 @@ public interface ArtistService {
 
     public List<ArtistDTO> getArtistList(Map<String, Object> param);
 
-    public ArtistDetailDTO getArtistDetailById(Long userId);
+    public Optional<ArtistDetailDTO> getArtistDetailById(Long userId);
 
     public List<ArtistDetailDTO> getArtistArtsList(Map<String, Object> params);
 
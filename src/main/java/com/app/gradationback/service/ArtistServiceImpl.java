@@ -1,12 +1,13 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.ArtistDetailCache;
 import com.app.gradationback.domain.*;
 import com.app.gradationback.repository.ArtistDAO;
+import com.app.gradationback.util.AfterCommitUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,6 +18,7 @@ import java.util.Optional;
 public class ArtistServiceImpl implements ArtistService {
 
     private final ArtistDAO artistDAO;
+    private final ArtistDetailCache artistDetailCache;
 
     @Override
     public List<ArtistDTO> getArtistList(Map<String, Object> params) {
@@ -40,24 +42,14 @@ public class ArtistServiceImpl implements ArtistService {
     }
 
     @Override
-    public ArtistDetailDTO getArtistDetailById(Long userId) {
-        List<ArtistDetailDTO> artistInfoList = artistDAO.findMyArtistById(userId);
-
-        ArtistDetailDTO artistInfo = artistInfoList.get(0);
-
-        List<HistoryVO> histories = new ArrayList<>();
-        for(ArtistDetailDTO artistDetailDTO : artistInfoList) {
-            if(artistDetailDTO.getHistoryDate() != null && artistDetailDTO.getHistoryContent() != null) {
-                HistoryVO historyVO = new HistoryVO();
-                historyVO.setId(artistDetailDTO.getHistoryId());
-                historyVO.setHistoryDate(artistDetailDTO.getHistoryDate());
-                historyVO.setHistoryContent(artistDetailDTO.getHistoryContent());
-                histories.add(historyVO);
-            }
-        }
-
-        artistInfo.setHistoryList(histories);
-        return artistInfo;
+    public Optional<ArtistDetailDTO> getArtistDetailById(Long userId) {
+//        작가 정보 1건 + 이력 리스트를 각각 조회해서 조립
+        return Optional.ofNullable(artistDetailCache.get(userId, id ->
+                artistDAO.findMyArtistById(id).map(artistInfo -> {
+                    artistInfo.setHistoryList(artistDAO.findHistoryListByUserId(id));
+                    return artistInfo;
+                }).orElse(null)
+        ));
     }
 
     @Override
@@ -78,16 +70,22 @@ public class ArtistServiceImpl implements ArtistService {
     @Override
     public void editArtist(UserVO userVO) {
         artistDAO.updateArtist(userVO);
+        artistDAO.refreshArtistCard(userVO.getId());
+        AfterCommitUtil.run(() -> artistDetailCache.invalidate(userVO.getId()));
     }
 
     @Override
     public void registerUserHistory(HistoryVO historyVO) {
         artistDAO.saveUserHistory(historyVO);
+        AfterCommitUtil.run(() -> artistDetailCache.invalidate(historyVO.getUserId()));
     }
 
     @Override
     public void removeUserHistory(Long id) {
-        artistDAO.deleteUserHistory(id);
+        artistDAO.findHistoryUserId(id).ifPresent(userId -> {
+            artistDAO.deleteUserHistory(id);
+            AfterCommitUtil.run(() -> artistDetailCache.invalidate(userId));
+        });
     }
 
 }
@@ -18,6 +18,7 @@ public class CommentLikeServiceImpl implements CommentLikeService {
     public void register(CommentLikeVO commentLikeVO) {
         if(!getCommentLiked(commentLikeVO)) {
             commentDAO.saveCommentLike(commentLikeVO);
+            commentDAO.increaseCommentLikeCount(commentLikeVO.getCommentId());
         }
 
     }
@@ -40,12 +41,15 @@ public class CommentLikeServiceImpl implements CommentLikeService {
 //    댓글 좋아요 삭제
     @Override
     public void removeCommentLike(CommentLikeVO commentLikeVO) {
-        commentDAO.deleteCommentLike(commentLikeVO);
+        if(commentDAO.deleteCommentLike(commentLikeVO) > 0) {
+            commentDAO.decreaseCommentLikeCount(commentLikeVO.getCommentId());
+        }
     }
 
 //    댓글 좋아요 전체 삭제
     @Override
     public void removeCommentLikeAll(Long commentId) {
         commentDAO.deleteAllCommentLikeByCommentId(commentId);
+        commentDAO.resetCommentLikeCount(commentId);
     }
 }
@@ -1,17 +1,20 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.CommentCountCache;
 import com.app.gradationback.domain.ArtPostDTO;
 import com.app.gradationback.domain.CommentDTO;
 import com.app.gradationback.domain.CommentVO;
 import com.app.gradationback.repository.CommentDAO;
+import com.app.gradationback.util.AfterCommitUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -19,11 +22,15 @@ import java.util.Optional;
 public class CommentServiceImpl implements CommentService {
 
     private final CommentDAO commentDAO;
+    private final CommentCountCache commentCountCache;
 
 //    댓글 등록
     @Override
     public void write(CommentVO commentVO) {
+        long writeVersion = commentCountCache.beginWrite();
         commentDAO.save(commentVO);
+        Long postId = commentVO.getArtPostId();
+        AfterCommitUtil.run(() -> commentCountCache.increase(postId, writeVersion));
     }
 
 //    댓글 전체 조회
@@ -47,12 +54,29 @@ public class CommentServiceImpl implements CommentService {
 //    댓글 전체 조회 (postId로)
     @Override
     public List<CommentDTO> getAllCommentByPostId(Map<String, Object> params) {
-        return commentDAO.findAllByPostId(params);
+        List<CommentDTO> commentList = commentDAO.findAllByPostId(params);
+        if (commentList.isEmpty()) {
+            return commentList;
+        }
+
+//        좋아요 여부는 현재 페이지 댓글 ID 로 한 번에 조회
+        Set<Long> likedIds = new HashSet<>();
+        Object userId = params.get("userId");
+        if (userId != null) {
+            List<Long> commentIds = commentList.stream().map(CommentDTO::getId).toList();
+            likedIds.addAll(commentDAO.findLikedCommentIds(Long.valueOf(userId.toString()), commentIds));
+        }
+        commentList.forEach(comment -> comment.setIsLiked(likedIds.contains(comment.getId()) ? 1 : 0));
+        return commentList;
     }
 
     @Override
     public Integer getCountComment(Map<String, Object> params) {
-        return commentDAO.findCountComment(params);
+        Object postId = params.get("postId");
+        if (postId == null) {
+            return commentDAO.findCountComment(params);
+        }
+        return commentCountCache.get(Long.valueOf(postId.toString()), () -> commentDAO.findCountComment(params));
     }
 
     //    댓글 수정
@@ -64,20 +88,28 @@ public class CommentServiceImpl implements CommentService {
 //    댓글 삭제
     @Override
     public void removeComment(Long commentId) {
-        commentDAO.deleteAllCommentLikeByCommentId(commentId);
-        commentDAO.delete(commentId);
+        commentDAO.findById(commentId).ifPresent(comment -> {
+            long writeVersion = commentCountCache.beginWrite();
+            commentDAO.deleteAllCommentLikeByCommentId(commentId);
+            commentDAO.delete(commentId);
+            Long postId = comment.getArtPostId();
+            AfterCommitUtil.run(() -> commentCountCache.decrease(postId, writeVersion));
+        });
     }
 
 //    댓글 전체 삭제 (회원 탈퇴)
     @Override
     public void removeCommentByUserId(Long userId) {
         commentDAO.deleteAllByUserId(userId);
+//        여러 게시글에 걸쳐 있으므로 전체 무효화
+        AfterCommitUtil.run(commentCountCache::invalidateAll);
     }
 
 //    댓글 전체 삭제 (게시글 삭제)
     @Override
     public void removeCommentByPostId(Long postId) {
         commentDAO.deleteAllByPostId(postId);
+        AfterCommitUtil.run(() -> commentCountCache.invalidate(postId));
     }
 
 }
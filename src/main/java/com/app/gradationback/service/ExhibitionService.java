@@ -1,5 +1,6 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.GradationExhibitionCache;
 import com.app.gradationback.domain.*;
 
 import java.util.List;
@@ -12,6 +13,9 @@ public interface ExhibitionService {
 //    전시회 정보 불러오기
     public Optional<GradationExhibitionVO> getGradation();
 
+//    현재 전시회 + 전시관 장소 이미지 (같은 시점의 묶음)
+    public GradationExhibitionCache.Bundle getCurrentGradation();
+
 //    전시관 장소 이미지 불러오기
     public List<GradationExhibitionImgVO> getGradationImgAll(Long gradationExhibitionId);
 
@@ -21,6 +25,9 @@ public interface ExhibitionService {
 //    전시회 장소 이미지 추가
     public void registerGradationImage(GradationExhibitionImgVO gradationExhibitionImgVO);
 
+//    전시회 장소 이미지 여러 개 추가
+    public void registerGradationImages(List<GradationExhibitionImgVO> gradationExhibitionImgList);
+
 //    전시회 정보 수정
     public void editGradation(GradationExhibitionVO gradationExhibitionVO);
 
@@ -49,6 +56,9 @@ public interface ExhibitionService {
 //    신청 양식(대학교 작년도 이미지)
     public void registerUniversityImg(UniversityExhibitionDTO universityExhibitionDTO);
 
+//    신청 양식(대학교 전시회 이미지 여러 개)
+    public void registerUniversityImgs(List<UniversityExhibitionDTO> universityExhibitionImgList);
+
 //    대학 젼시회 정보 조회
     public List<UniversityExhibitionDTO> getUniversity(Map<String, Object> params);
 
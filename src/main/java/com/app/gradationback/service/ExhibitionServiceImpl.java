@@ -1,13 +1,18 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.GradationExhibitionCache;
+import com.app.gradationback.cache.UniversityExhibitionCache;
 import com.app.gradationback.domain.*;
 import com.app.gradationback.mapper.ExhibitionMapper;
 import com.app.gradationback.repository.ExhibitionDAO;
+import com.app.gradationback.util.AfterCommitUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -15,17 +20,36 @@ import java.util.*;
 public class ExhibitionServiceImpl implements ExhibitionService {
 
     private final ExhibitionDAO exhibitionDAO;
+    private final UniversityExhibitionCache universityExhibitionCache;
+    private final GradationExhibitionCache gradationExhibitionCache;
 
     @Override
     public Optional<GradationExhibitionVO> getGradation() {
-        return exhibitionDAO.findGradation();
+        return getCurrentGradation().gradation();
     }
 
     @Override
     public List<GradationExhibitionImgVO> getGradationImgAll(Long gradationExhibitionId) {
+//        현재 전시회 이미지는 캐시된 묶음에서
+        GradationExhibitionCache.Bundle bundle = getCurrentGradation();
+        if(bundle.gradation().map(gradation -> gradation.getId().equals(gradationExhibitionId)).orElse(false)) {
+            return bundle.images();
+        }
         return exhibitionDAO.findGradationImgAll(gradationExhibitionId);
     }
 
+//    현재 전시회 + 이미지 묶음
+    @Override
+    public GradationExhibitionCache.Bundle getCurrentGradation() {
+        return gradationExhibitionCache.getCurrent(() -> {
+            Optional<GradationExhibitionVO> gradation = exhibitionDAO.findGradation();
+            List<GradationExhibitionImgVO> images = gradation
+                    .map(found -> List.copyOf(exhibitionDAO.findGradationImgAll(found.getId())))
+                    .orElse(List.of());
+            return new GradationExhibitionCache.Bundle(gradation, images);
+        });
+    }
+
     @Override
     public GradationExhibitionVO registerGradation(GradationExhibitionDTO gradationExhibitionDTO) {
         GradationExhibitionVO gradationExhibitionVO = new GradationExhibitionVO();
@@ -39,36 +63,42 @@ public class ExhibitionServiceImpl implements ExhibitionService {
         gradationExhibitionVO.setGradationExhibitionDate(gradationExhibitionDTO.getGradationExhibitionDate());
         exhibitionDAO.saveGradation(gradationExhibitionVO);
 
-        List<Long> arts = exhibitionDAO.findTop50ArtId();
-        if(arts != null && !arts.isEmpty()) {
-            for(Long artId : arts) {
-                Map<String, Object> params = new HashMap<>();
-                params.put("artId", artId);
-                params.put("gradationExhibitionId", gradationExhibitionVO.getId());
-                exhibitionDAO.savePastExhibition(params);
-            };
-        }
+//        올해 좋아요 50개 작품을 INSERT ... SELECT 한 번으로 지난 전시회에 저장 (같은 트랜잭션)
+        exhibitionDAO.savePastExhibition(gradationExhibitionVO.getId());
+        AfterCommitUtil.run(gradationExhibitionCache::invalidateAll);
         return gradationExhibitionVO;
     }
 
     @Override
     public void registerGradationImage(GradationExhibitionImgVO gradationExhibitionImgVO) {
         exhibitionDAO.saveGradationImage(gradationExhibitionImgVO);
+        AfterCommitUtil.run(gradationExhibitionCache::invalidateCurrent);
+    }
+
+    @Override
+    public void registerGradationImages(List<GradationExhibitionImgVO> gradationExhibitionImgList) {
+        if (gradationExhibitionImgList.isEmpty()) {
+            return;
+        }
+        exhibitionDAO.saveGradationImages(gradationExhibitionImgList);
+        AfterCommitUtil.run(gradationExhibitionCache::invalidateCurrent);
     }
 
     @Override
     public void editGradation(GradationExhibitionVO gradationExhibitionVO) {
         exhibitionDAO.updateGradation(gradationExhibitionVO);
+        AfterCommitUtil.run(gradationExhibitionCache::invalidateAll);
     }
 
     @Override
     public void removeGradationImage(Long id) {
         exhibitionDAO.deleteGradationImage(id);
+        AfterCommitUtil.run(gradationExhibitionCache::invalidateCurrent);
     }
 
     @Override
     public List<GradationExhibitionVO> getRecentGradations() {
-        return exhibitionDAO.findRecentGradations();
+        return gradationExhibitionCache.getRecent(() -> List.copyOf(exhibitionDAO.findRecentGradations()));
     }
 
     @Override
@@ -78,7 +108,7 @@ public class ExhibitionServiceImpl implements ExhibitionService {
 
     @Override
     public List<ExhibitionPastDTO> getPastExhibitions() {
-        return exhibitionDAO.findPastExhibitions();
+        return gradationExhibitionCache.getPast(() -> List.copyOf(exhibitionDAO.findPastExhibitions()));
     }
 
     @Override
@@ -106,6 +136,7 @@ public class ExhibitionServiceImpl implements ExhibitionService {
         } else {
             universityExhibitionDTO.setUniversityLogoImgName("default-logo.png");
             universityExhibitionDTO.setUniversityLogoImgPath("assets/images/university/logo");
+            universityExhibitionDTO.setUniversityRegion(parseRegion(universityExhibitionDTO.getUniversityLocation()));
             exhibitionDAO.saveUniversity(universityExhibitionDTO);
         }
 //        학과 저장
@@ -113,35 +144,62 @@ public class ExhibitionServiceImpl implements ExhibitionService {
         universityExhibitionDTO.setUniversityExhibitionRequestDate(new Date());
 //        전시회 저장
         exhibitionDAO.saveUniversityExhibition(universityExhibitionDTO);
+        AfterCommitUtil.run(universityExhibitionCache::invalidate);
     }
 
     @Override
     public void registerUniversityImg(UniversityExhibitionDTO universityExhibitionDTO) {
         if(universityExhibitionDTO.getUniversityExhibitionImgPath() != null && universityExhibitionDTO.getUniversityExhibitionImgName() != null) {
             exhibitionDAO.saveUniversityExhibitionImg(universityExhibitionDTO);
+            AfterCommitUtil.run(universityExhibitionCache::invalidate);
+        }
+    }
+
+    @Override
+    public void registerUniversityImgs(List<UniversityExhibitionDTO> universityExhibitionImgList) {
+        List<UniversityExhibitionDTO> images = universityExhibitionImgList.stream()
+                .filter(image -> image.getUniversityExhibitionImgPath() != null && image.getUniversityExhibitionImgName() != null)
+                .toList();
+        if (images.isEmpty()) {
+            return;
         }
+        exhibitionDAO.saveUniversityExhibitionImgs(images);
+        AfterCommitUtil.run(universityExhibitionCache::invalidate);
     }
 
 //    대학 전시회 정보
     @Override
     public List<UniversityExhibitionDTO> getUniversity(Map<String, Object> params) {
-        return exhibitionDAO.findUniversity(params).stream()
-                .map((university) -> {
-                    university.setUniversityExhibitionImgList(exhibitionDAO.findUniversityImgAll(university.getId()));
-
-                    if(university.getUniversityLikeId() != null) {
-                        university.setLiked(true);
-                    } else {
-                        university.setLiked(false);
-                    }
-
-                    return university;
-                })
-                .map(university -> {
-                    Date now = new Date();
-                    Date startDate = university.getUniversityExhibitionStartDate();
+        Map<String, Object> filter = params == null ? Map.of() : params;
+        String location = Objects.toString(filter.get("location"), "");
+        String status = Objects.toString(filter.get("universityExhibitionStatus"), "");
+        String keyword = Objects.toString(filter.get("keyword"), "");
+        Date now = new Date();
+
+//        공용 목록은 캐시에서, 좋아요 여부만 로그인 사용자 기준으로 한 번 조회
+        UniversityExhibitionCache.Snapshot snapshot = universityExhibitionCache.get(this::loadUniversityList);
+//        지역은 등록 시 저장한 UNIVERSITY_REGION 기준 인덱스로 조회
+        List<UniversityExhibitionDTO> universities = location.isEmpty() || location.equals("전체지역")
+                ? snapshot.universities()
+                : snapshot.findByRegion(location);
+        Set<Long> likedIds = new HashSet<>();
+        Object userId = filter.get("userId");
+        if(userId != null) {
+            likedIds.addAll(exhibitionDAO.findLikedUniversityExhibitionIds(Long.valueOf(userId.toString())));
+        }
 
-                    if(now.before(startDate)) {
+        return universities.stream()
+                .filter(university -> !university.getUniversityExhibitionEndDate().before(now))
+                .filter(university -> !status.equals("예정전시") || now.before(university.getUniversityExhibitionStartDate()))
+                .filter(university -> !status.equals("현재전시") || !now.before(university.getUniversityExhibitionStartDate()))
+                .filter(university -> keyword.isEmpty() || university.getUniversityName().contains(keyword))
+                .map(cached -> {
+//                    캐시 객체는 공유되므로 복사해서 사용자별 값 설정
+                    UniversityExhibitionDTO university = new UniversityExhibitionDTO();
+                    BeanUtils.copyProperties(cached, university);
+                    university.setLiked(likedIds.contains(university.getId()));
+
+                    if(now.before(university.getUniversityExhibitionStartDate())) {
                         university.setUniversityExhibitionState("전시 예정");
                     } else {
                         university.setUniversityExhibitionState("전시 중");
@@ -150,6 +208,25 @@ public class ExhibitionServiceImpl implements ExhibitionService {
                 }).toList();
     }
 
+//    주소의 첫 단어를 지역으로 사용 (예: "서울특별시 마포구 ..." -> "서울특별시")
+    private String parseRegion(String universityLocation) {
+        if(universityLocation == null || universityLocation.isBlank()) {
+            return null;
+        }
+        return universityLocation.trim().split("\\s+")[0];
+    }
+
+//    대학 전시회 공용 목록 (이미지는 한 번에 조회해서 전시회별로 묶음)
+    private List<UniversityExhibitionDTO> loadUniversityList() {
+        Map<Long, List<UniversityExhibitionImgVO>> imgMap = exhibitionDAO.findUniversityImgAllInList().stream()
+                .collect(Collectors.groupingBy(UniversityExhibitionImgVO::getUniversityExhibitionId));
+
+        List<UniversityExhibitionDTO> universities = exhibitionDAO.findUniversityAll();
+        universities.forEach(university ->
+                university.setUniversityExhibitionImgList(List.copyOf(imgMap.getOrDefault(university.getId(), List.of()))));
+        return List.copyOf(universities);
+    }
+
 //    대학 전시회 사진
     @Override
     public List<UniversityExhibitionImgVO> getUniversityImgAll(Long universityExhibitionId) {
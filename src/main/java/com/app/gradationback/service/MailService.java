@@ -1,6 +1,7 @@
 package com.app.gradationback.service;
 
 import com.app.gradationback.domain.MailDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.swing.text.html.Option;
 import java.util.List;
@@ -8,16 +9,16 @@ import java.util.Optional;
 
 public interface MailService {
 //    이메일로 아이디 찾기
-    public Optional<MailDTO> findByIdForEmail(String receiveUserEmail);
+    public Optional<Long> findByIdForEmail(String receiveUserEmail);
 
 //    쪽지등록
     public void register(MailDTO mailDTO);
 
-//    받은쪽지 리스트
-    public List<MailDTO> getReceivedList(Long receiveUserId);
+//    받은쪽지 리스트 (최신순, lastId 다음부터 size 개)
+    public List<MailDTO> getReceivedList(Long receiveUserId, Long lastId, Integer size);
 
-//    보낸쪽지 리스트
-    public List<MailDTO> getSendedList(Long sendUserId);
+//    보낸쪽지 리스트 (최신순, lastId 다음부터 size 개)
+    public List<MailDTO> getSendedList(Long sendUserId, Long lastId, Integer size);
 
 //    받은쪽지 단일조회
     public Optional<MailDTO> findReceivedOne(Long id, Long receiveUserId);
@@ -31,8 +32,14 @@ public interface MailService {
 //    보낸쪽지 삭제
     public void removeSendedMail(Long id);
 
-//    알림리스트
-    public List<MailDTO> getAlertList(Long receiveUserId);
+//    알림리스트 (최신순, lastId 다음부터 size 개)
+    public List<MailDTO> getAlertList(Long receiveUserId, Long lastId, Integer size);
+
+//    알림 일괄 등록 (대상이 많으면 작업으로 저장 후 나눠서 비동기 등록, 등록 예정 수 반환)
+    public int registerAlerts(List<Long> receiveUserIds, String mailTitle, String mailContent);
+
+//    대기 중이거나 멈춘 알림 일괄 등록 작업 처리
+    public void processAlertJobs();
 
 //    알림상세
     public Optional<MailDTO> findByDetail(Long id);
@@ -43,4 +50,7 @@ public interface MailService {
 //    읽지않은 메일 갯수 카운트
     public int countNotRead(Long receiveUserId);
 
+//    읽지 않은 알림 수 실시간 구독 (SSE)
+    public SseEmitter subscribeNotRead(Long receiveUserId);
+
 }
@@ -1,43 +1,108 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.UnreadMailCounter;
+import com.app.gradationback.domain.MailAlertJobVO;
 import com.app.gradationback.domain.MailDTO;
+import com.app.gradationback.domain.MailVO;
+import com.app.gradationback.exception.MailException;
 import com.app.gradationback.repository.MailDAO;
-import lombok.RequiredArgsConstructor;
+import com.app.gradationback.util.AfterCommitUtil;
+import com.app.gradationback.util.MailAlertEmitters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @Transactional(rollbackFor = Exception.class)
-@RequiredArgsConstructor
 public class MailServiceImpl implements MailService {
 
+//    관리자 알림 발신자 (읽지 않은 알림 수는 이 발신자의 쪽지만 셈)
+    private static final Long ALERT_SEND_USER_ID = 1L;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
     private final MailDAO mailDAO;
+    private final UnreadMailCounter unreadMailCounter;
+    private final MailAlertEmitters mailAlertEmitters;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor alertExecutor;
+    private final int alertChunkSize;
+    private final int alertJobMaxAttempts;
+    private final int alertJobStaleSeconds;
+
+    public MailServiceImpl(MailDAO mailDAO, UnreadMailCounter unreadMailCounter, MailAlertEmitters mailAlertEmitters,
+                           PlatformTransactionManager transactionManager,
+                           @Qualifier("alertExecutor") ThreadPoolTaskExecutor alertExecutor,
+                           @Value("${mail.alert.chunk-size:500}") int alertChunkSize,
+                           @Value("${mail.alert.job.max-attempts:5}") int alertJobMaxAttempts,
+                           @Value("${mail.alert.job.stale-seconds:300}") int alertJobStaleSeconds) {
+        this.mailDAO = mailDAO;
+        this.unreadMailCounter = unreadMailCounter;
+        this.mailAlertEmitters = mailAlertEmitters;
+//        커밋 후 콜백에서도 항상 새 트랜잭션으로 등록
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.alertExecutor = alertExecutor;
+//        Oracle IN 목록 최대 1000개
+        this.alertChunkSize = Math.max(1, Math.min(alertChunkSize, 1000));
+        this.alertJobMaxAttempts = alertJobMaxAttempts;
+        this.alertJobStaleSeconds = alertJobStaleSeconds;
+    }
 
 //    이메일로 아이디 찾기
     @Override
-    public Optional<MailDTO> findByIdForEmail(String receiveUserEmail) {
+    public Optional<Long> findByIdForEmail(String receiveUserEmail) {
         return mailDAO.findByIdForEmail(receiveUserEmail);
     }
 
 //    등록
     @Override
     public void register(MailDTO mailDTO) {
+        if (mailDTO.getReceiveUserEmail() != null) {
+            Long receiveUserId = mailDAO.findByIdForEmail(mailDTO.getReceiveUserEmail())
+                    .orElseThrow(() -> new MailException("받는 회원을 찾을 수 없습니다."));
+            mailDTO.setReceiveUserId(receiveUserId);
+        }
+        if (mailDTO.getReceiveUserId() == null) {
+            throw new MailException("받는 회원을 찾을 수 없습니다.");
+        }
+        long writeVersion = unreadMailCounter.beginWrite();
         mailDAO.save(mailDTO);
+
+        if (ALERT_SEND_USER_ID.equals(mailDTO.getSendUserId())) {
+            Long receiveUserId = mailDTO.getReceiveUserId();
+            AfterCommitUtil.run(() -> publishNotRead(receiveUserId, unreadMailCounter.increase(receiveUserId, writeVersion)));
+        }
     }
 
 //    받은 쪽지 리스트
     @Override
-    public List<MailDTO> getReceivedList(Long receiveUserId) {
-        return mailDAO.getReceivedList(receiveUserId);
+    public List<MailDTO> getReceivedList(Long receiveUserId, Long lastId, Integer size) {
+        Map<String, Object> params = pageParams(lastId, size);
+        params.put("receiveUserId", receiveUserId);
+        return mailDAO.getReceivedList(params);
     }
 
 //    보낸 쪽지 리스트
     @Override
-    public List<MailDTO> getSendedList(Long sendUserId) {
-        return mailDAO.getSendedList(sendUserId);
+    public List<MailDTO> getSendedList(Long sendUserId, Long lastId, Integer size) {
+        Map<String, Object> params = pageParams(lastId, size);
+        params.put("sendUserId", sendUserId);
+        return mailDAO.getSendedList(params);
     }
 
 //    받은 쪽지 단일조회
@@ -55,7 +120,16 @@ public class MailServiceImpl implements MailService {
 //    받은 메시지 삭제
     @Override
     public void removeReceivedMail(Long id) {
-        mailDAO.deleteReceived(id);
+        long writeVersion = unreadMailCounter.beginWrite();
+        Optional<MailVO> foundMail = mailDAO.findForUpdate(id);
+        if (mailDAO.deleteReceived(id) == 0 || foundMail.isEmpty()) {
+            return;
+        }
+        MailVO mailVO = foundMail.get();
+        if (ALERT_SEND_USER_ID.equals(mailVO.getSendUserId()) && !mailVO.isMailOpenOk()) {
+            Long receiveUserId = mailVO.getReceiveUserId();
+            AfterCommitUtil.run(() -> publishNotRead(receiveUserId, unreadMailCounter.decrease(receiveUserId, writeVersion)));
+        }
     }
 
 //    보낸 메시지 삭제
@@ -66,8 +140,126 @@ public class MailServiceImpl implements MailService {
 
 //    알림리스트
     @Override
-    public List<MailDTO> getAlertList(Long receiveUserId) {
-        return mailDAO.getAlertList(receiveUserId);
+    public List<MailDTO> getAlertList(Long receiveUserId, Long lastId, Integer size) {
+        Map<String, Object> params = pageParams(lastId, size);
+        params.put("receiveUserId", receiveUserId);
+        return mailDAO.getAlertList(params);
+    }
+
+//    목록 페이지 조건 (size 없으면 기본값, 최대 MAX_PAGE_SIZE)
+    private Map<String, Object> pageParams(Long lastId, Integer size) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("lastId", lastId);
+        params.put("size", size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        return params;
+    }
+
+//    알림 일괄 등록
+//    한 번에 등록할 수 있으면 현재 트랜잭션에서, 많으면 작업(TBL_MAIL_ALERT_JOB)으로 저장하고 커밋 후 나눠서 비동기 등록
+//    작업은 요청과 같은 트랜잭션으로 저장되므로 대기열이 가득 차거나 서버가 재시작돼도 스케줄러가 이어서 처리
+    @Override
+    public int registerAlerts(List<Long> receiveUserIds, String mailTitle, String mailContent) {
+        List<Long> targets = receiveUserIds == null ? List.of()
+                : receiveUserIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        if (targets.size() <= alertChunkSize) {
+            saveAlerts(targets, mailTitle, mailContent);
+            return targets.size();
+        }
+
+        MailAlertJobVO mailAlertJobVO = new MailAlertJobVO();
+        mailAlertJobVO.setMailTitle(mailTitle);
+        mailAlertJobVO.setMailContent(mailContent);
+        mailAlertJobVO.setReceiveUserIds(targets.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        mailDAO.saveAlertJob(mailAlertJobVO);
+
+        Long jobId = mailAlertJobVO.getId();
+        AfterCommitUtil.run(() -> submitAlertJob(jobId));
+        return targets.size();
+    }
+
+//    대기 중이거나 멈춘 알림 일괄 등록 작업 다시 처리 (MailAlertJobPoller)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void processAlertJobs() {
+        for (Long jobId : mailDAO.findAlertJobIdsToProcess(alertJobStaleSeconds)) {
+            submitAlertJob(jobId);
+        }
+    }
+
+//    작업 제출 (대기열이 가득 차 거절되면 PENDING 으로 남아 스케줄러가 처리)
+    private void submitAlertJob(Long jobId) {
+        try {
+            alertExecutor.execute(() -> processAlertJob(jobId));
+        } catch (TaskRejectedException e) {
+            log.warn("알림 일괄 등록 대기열 초과, 다음 주기에 처리 : {}", jobId);
+        }
+    }
+
+//    등록을 마친 대상 다음부터 나눠서 등록, 구간마다 알림과 진행 상황을 같은 트랜잭션으로 저장 (중복 등록 없음)
+    private void processAlertJob(Long jobId) {
+        try {
+            if (!mailDAO.claimAlertJob(jobId, alertJobStaleSeconds)) {
+//                이미 다른 스레드/서버가 처리 중이거나 끝난 작업
+                return;
+            }
+            MailAlertJobVO mailAlertJobVO = mailDAO.findAlertJob(jobId)
+                    .orElseThrow(() -> new MailException("알림 일괄 등록 작업 조회 실패"));
+            if (Optional.ofNullable(mailAlertJobVO.getJobAttempt()).orElse(1) > alertJobMaxAttempts) {
+                log.error("알림 일괄 등록 시도 횟수 초과 : {}", jobId);
+                mailDAO.updateAlertJobFailed(jobId, "시도 횟수 초과");
+                return;
+            }
+
+            List<Long> targets = Arrays.stream(mailAlertJobVO.getReceiveUserIds().split(","))
+                    .map(Long::valueOf)
+                    .toList();
+            int from = Optional.ofNullable(mailAlertJobVO.getJobDoneCount()).orElse(0);
+            while (from < targets.size()) {
+                int start = from;
+                int end = Math.min(start + alertChunkSize, targets.size());
+                boolean progressed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                    if (!mailDAO.updateAlertJobProgress(jobId, start, end)) {
+                        return false;
+                    }
+                    saveAlerts(targets.subList(start, end), mailAlertJobVO.getMailTitle(), mailAlertJobVO.getMailContent());
+                    return true;
+                }));
+                if (!progressed) {
+//                    오래 걸려 다른 서버가 다시 가져간 작업 -> 그쪽에서 이어서 처리
+                    log.warn("알림 일괄 등록 작업을 다른 곳에서 처리 중 : {}", jobId);
+                    return;
+                }
+                from = end;
+            }
+            mailDAO.updateAlertJobDone(jobId);
+
+        } catch (RuntimeException e) {
+//            남은 대상은 다음 주기에 이어서 (상태 변경도 실패하면 PROCESSING 으로 남고 일정 시간 뒤 다시)
+            log.error("알림 일괄 등록 실패 : {}", jobId, e);
+            try {
+                mailDAO.updateAlertJobRetry(jobId, errorMessage(e));
+            } catch (RuntimeException ignored) {
+            }
+        }
+    }
+
+    private String errorMessage(Exception e) {
+        String message = String.valueOf(e.getMessage());
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private void saveAlerts(List<Long> receiveUserIds, String mailTitle, String mailContent) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("receiveUserIds", receiveUserIds);
+        params.put("mailTitle", mailTitle);
+        params.put("mailContent", mailContent);
+        long writeVersion = unreadMailCounter.beginWrite();
+        mailDAO.saveAlerts(params);
+        AfterCommitUtil.run(() -> receiveUserIds.forEach(receiveUserId ->
+                publishNotRead(receiveUserId, unreadMailCounter.increase(receiveUserId, writeVersion))));
     }
 
 //    알림상세
@@ -77,12 +269,34 @@ public class MailServiceImpl implements MailService {
 
 //    읽음처리
     public void readUpdate (Long id, Long receiveUserId) {
-        mailDAO.readUpdate(id, receiveUserId);
+        long writeVersion = unreadMailCounter.beginWrite();
+        Optional<MailVO> foundMail = mailDAO.findForUpdate(id);
+        if (mailDAO.readUpdate(id, receiveUserId) == 0 || foundMail.isEmpty()) {
+            return;
+        }
+        if (ALERT_SEND_USER_ID.equals(foundMail.get().getSendUserId())) {
+            AfterCommitUtil.run(() -> publishNotRead(receiveUserId, unreadMailCounter.decrease(receiveUserId, writeVersion)));
+        }
     }
 
-//    읽지않은 메일 갯수 카운트
+//    읽지않은 메일 갯수 카운트 (메모리 카운터, 없으면 DB 에서 읽어 채움)
     public int countNotRead(Long receiveUserId) {
-        return mailDAO.countNotRead(receiveUserId);
+        return unreadMailCounter.get(receiveUserId, () -> mailDAO.countNotRead(receiveUserId));
+    }
+
+//    읽지 않은 알림 수 실시간 구독 (연결 직후 현재 값 전송)
+    public SseEmitter subscribeNotRead(Long receiveUserId) {
+        SseEmitter emitter = mailAlertEmitters.subscribe(receiveUserId);
+        mailAlertEmitters.send(receiveUserId, emitter, countNotRead(receiveUserId));
+        return emitter;
+    }
+
+//    변경된 알림 수를 연결된 회원에게 전송 (카운터에 없던 회원이면 다시 조회)
+    private void publishNotRead(Long receiveUserId, Integer count) {
+        if (!mailAlertEmitters.hasSubscribers(receiveUserId)) {
+            return;
+        }
+        mailAlertEmitters.send(receiveUserId, count != null ? count : countNotRead(receiveUserId));
     }
 
 }
@@ -1,6 +1,11 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.ArtistDetailCache;
+import com.app.gradationback.cache.CommentCountCache;
+import com.app.gradationback.cache.UserPrincipalCache;
+import com.app.gradationback.repository.ArtistDAO;
 import com.app.gradationback.repository.MypageDAO;
+import com.app.gradationback.util.AfterCommitUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,10 +16,23 @@ import org.springframework.transaction.annotation.Transactional;
 public class MypageServiceImpl implements MypageService {
 
     private final MypageDAO mypageDAO;
+    private final ArtistDAO artistDAO;
+    private final CommentCountCache commentCountCache;
+    private final ArtistDetailCache artistDetailCache;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public void withdrawAll(Long userId) {
         mypageDAO.deleteUserAllData(userId);
+
+//        탈퇴한 작가 카드 삭제
+        artistDAO.deleteArtistCard(userId);
+
+//        여러 게시글의 댓글이 지워지므로 전체 무효화
+        AfterCommitUtil.run(commentCountCache::invalidateAll);
+        AfterCommitUtil.run(() -> artistDetailCache.invalidate(userId));
+//        탈퇴한 회원의 토큰이 캐시된 정보로 계속 인증되지 않도록 (아이디 별 캐시라 전체 무효화)
+        AfterCommitUtil.run(userPrincipalCache::invalidateAll);
     }
 
 
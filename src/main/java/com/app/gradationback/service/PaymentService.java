@@ -1,6 +1,7 @@
 package com.app.gradationback.service;
 
 import com.app.gradationback.domain.*;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
 import java.util.Map;
@@ -8,8 +9,14 @@ import java.util.Optional;
 
 public interface PaymentService {
 
-//    결제
-    public Optional<DeliveryDTO> payment(Map<String, Object> paymentData);
+//    결제 요청 기록 (결제 승인은 PaymentOutboxWorker 에서 비동기로 처리)
+    public PaymentOutboxVO requestPayment(Map<String, Object> paymentData);
+
+//    결제 승인 결과로 결제, 배송 등록 (이미 완료된 요청이면 기존 결제번호 반환)
+    public Long completePayment(Long outboxId, Map<String, Object> paymentData, JsonNode responseNode);
+
+//    결제 요청 상태 조회
+    public Optional<PaymentOutboxVO> getPaymentRequest(Long outboxId);
 
 //    결제 취소
     public void paymentCancel(PaymentCancellationVO paymentCancellationVO);
@@ -20,6 +27,9 @@ public interface PaymentService {
 //    결매 결제 조회
     public Optional<DeliveryDTO> getPaymentByAuctionId(Long auctionId);
 
-//    유저 결제 조회
-    public List<DeliveryDTO> getPaymentByUserId(Long userId);
+//    유저 구매 내역 조회 (결제일 최신순, lastId 이후 size 건)
+    public List<PurchaseHistoryDTO> getPurchaseHistory(Long userId, Long lastId, Integer size);
+
+//    결제 API 호출 통계
+    public Map<String, Object> getGatewayStats();
 }
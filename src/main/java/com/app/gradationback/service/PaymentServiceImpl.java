@@ -3,8 +3,11 @@ package com.app.gradationback.service;
 import com.app.gradationback.domain.DeliveryDTO;
 import com.app.gradationback.domain.DeliveryVO;
 import com.app.gradationback.domain.PaymentCancellationVO;
+import com.app.gradationback.domain.PaymentOutboxVO;
 import com.app.gradationback.domain.PaymentVO;
+import com.app.gradationback.domain.PurchaseHistoryDTO;
 import com.app.gradationback.exception.PaymentException;
+import com.app.gradationback.payment.PaymentGatewayClient;
 import com.app.gradationback.repository.DeliveryDAO;
 import com.app.gradationback.repository.PaymentDAO;
 import com.app.gradationback.util.CardCompanyMapUtil;
@@ -13,14 +16,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
 
@@ -30,70 +28,94 @@ import java.util.*;
 @Transactional(rollbackFor = Exception.class)
 public class PaymentServiceImpl implements PaymentService {
 
+    private static final int DEFAULT_HISTORY_SIZE = 10;
+    private static final int MAX_HISTORY_SIZE = 50;
+    private static final List<String> DELIVERY_FIELDS = List.of(
+            "deliveryAddress", "deliveryDetailAddress", "deliveryPostalCode",
+            "deliveryMessage", "deliveryReceiver", "deliveryPhone");
+
     private final PaymentDAO paymentDAO;
     private final DeliveryDAO deliveryDAO;
-
-    @Value("${toss.payments.api.key}")
-    private String apiKey;
-
-    @Value("${toss.payments.api.url}")
-    private String apiUrl;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final ObjectMapper objectMapper;
 
     @Override
-    public Optional<DeliveryDTO> payment(Map<String, Object> paymentData) {
-        Map<String, String> cardCompanyMap = CardCompanyMapUtil.createMap();
+    public PaymentOutboxVO requestPayment(Map<String, Object> paymentData) {
+        if (paymentData.get("orderId") == null || paymentData.get("auctionId") == null) {
+            throw new PaymentException("결제 요청 정보 누락");
+        }
+//        배송 정보는 승인 후 등록할 때 사용 -> 빠진 값이 있으면 요청을 저장하기 전에 거절
+        for (String field : DELIVERY_FIELDS) {
+            if (paymentData.get(field) == null) {
+                throw new PaymentException("배송 정보 누락 : " + field);
+            }
+        }
+        String orderId = paymentData.get("orderId").toString();
 
-        RestTemplate restTemplate = new RestTemplate();
-        Long auctionId = Long.valueOf(paymentData.get("auctionId").toString());
-//        API키를 Base64로 인코딩
-        String encodedApiKey = Base64.getEncoder().encodeToString((apiKey + ":").getBytes());
+//        같은 주문을 다시 요청하면 기존 요청을 그대로 사용
+        Optional<PaymentOutboxVO> foundOutbox = paymentDAO.findOutboxByOrderId(orderId);
+        if (foundOutbox.isPresent()) {
+            return foundOutbox.get();
+        }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Basic " + encodedApiKey);
-        headers.set("Content-Type", "application/json; charset=utf-8");
-        headers.set("Accept", "application/json; charset=utf-8");
+        PaymentOutboxVO paymentOutboxVO = new PaymentOutboxVO();
+        paymentOutboxVO.setAuctionId(Long.valueOf(paymentData.get("auctionId").toString()));
+        paymentOutboxVO.setOrderId(orderId);
+        try {
+            paymentOutboxVO.setPaymentData(objectMapper.writeValueAsString(paymentData));
+        } catch (JsonProcessingException e) {
+            throw new PaymentException("결제 요청 정보 오류", e);
+        }
 
-//        HTTP 바디에 결제 데이터 추가
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(paymentData, headers);
-        ObjectMapper objectMapper = new ObjectMapper();
+        try {
+            paymentDAO.saveOutbox(paymentOutboxVO);
+        } catch (DuplicateKeyException e) {
+//            동시에 같은 주문이 들어온 경우
+            return paymentDAO.findOutboxByOrderId(orderId).orElseThrow(() -> new PaymentException("결제 요청 실패", e));
+        }
+        return paymentDAO.findOutbox(paymentOutboxVO.getId()).orElseThrow(() -> new PaymentException("결제 요청 실패"));
+    }
 
-        ResponseEntity<String> response = restTemplate.exchange(apiUrl, HttpMethod.POST, entity, String.class);
+    @Override
+    public Long completePayment(Long outboxId, Map<String, Object> paymentData, JsonNode responseNode) {
+//        같은 요청이 동시에 완료되지 않도록 잠금
+        PaymentOutboxVO paymentOutboxVO = paymentDAO.findOutboxForUpdate(outboxId)
+                .orElseThrow(() -> new PaymentException("결제 요청 조회 실패"));
+        if ("DONE".equals(paymentOutboxVO.getOutboxStatus())) {
+            return paymentOutboxVO.getPaymentId();
+        }
 
-        String jsonString = response.getBody();
+        Map<String, String> cardCompanyMap = CardCompanyMapUtil.createMap();
 
         PaymentVO paymentVO = new PaymentVO();
         DeliveryVO deliveryVO = new DeliveryVO();
-        try {
-            JsonNode responseNode = objectMapper.readTree(jsonString);
-            if(responseNode.hasNonNull("card")) {
-                paymentVO.setPaymentMethod(cardCompanyMap.get(responseNode.path("card").path("issuerCode").asText()));
-                paymentVO.setPaymentAmount(responseNode.path("card").path("amount").asLong());
-                paymentVO.setPaymentCode(responseNode.path("orderId").asText());
-                paymentVO.setAuctionId(auctionId);
-                paymentDAO.save(paymentVO);
-            }else {
-                paymentVO.setPaymentMethod(responseNode.path("easyPay").path("provider").asText());
-                paymentVO.setPaymentAmount(responseNode.path("easyPay").path("amount").asLong());
-                paymentVO.setPaymentCode(responseNode.path("orderId").asText());
-                paymentVO.setAuctionId(auctionId);
-                paymentDAO.save(paymentVO);
-            }
-
-            deliveryVO.setPaymentId(paymentVO.getId());
-            deliveryVO.setDeliveryAddress(paymentData.get("deliveryAddress").toString());
-            deliveryVO.setDeliveryDetailAddress(paymentData.get("deliveryDetailAddress").toString());
-            deliveryVO.setDeliveryPostalCode(paymentData.get("deliveryPostalCode").toString());
-            deliveryVO.setDeliveryMessage(paymentData.get("deliveryMessage").toString());
-            deliveryVO.setDeliveryReceiver(paymentData.get("deliveryReceiver").toString());
-            deliveryVO.setDeliveryPhone(paymentData.get("deliveryPhone").toString());
-
-            deliveryDAO.save(deliveryVO);
-
-            return paymentDAO.findById(paymentVO.getId());
-
-        } catch (JsonProcessingException e) {
-            throw new PaymentException("결제 실패");
+        if(responseNode.hasNonNull("card")) {
+            paymentVO.setPaymentMethod(cardCompanyMap.get(responseNode.path("card").path("issuerCode").asText()));
+            paymentVO.setPaymentAmount(responseNode.path("card").path("amount").asLong());
+        }else {
+            paymentVO.setPaymentMethod(responseNode.path("easyPay").path("provider").asText());
+            paymentVO.setPaymentAmount(responseNode.path("easyPay").path("amount").asLong());
         }
+        paymentVO.setPaymentCode(responseNode.path("orderId").asText());
+        paymentVO.setAuctionId(paymentOutboxVO.getAuctionId());
+        paymentDAO.save(paymentVO);
+
+        deliveryVO.setPaymentId(paymentVO.getId());
+        deliveryVO.setDeliveryAddress(paymentData.get("deliveryAddress").toString());
+        deliveryVO.setDeliveryDetailAddress(paymentData.get("deliveryDetailAddress").toString());
+        deliveryVO.setDeliveryPostalCode(paymentData.get("deliveryPostalCode").toString());
+        deliveryVO.setDeliveryMessage(paymentData.get("deliveryMessage").toString());
+        deliveryVO.setDeliveryReceiver(paymentData.get("deliveryReceiver").toString());
+        deliveryVO.setDeliveryPhone(paymentData.get("deliveryPhone").toString());
+        deliveryDAO.save(deliveryVO);
+
+        paymentDAO.updateOutboxDone(outboxId, paymentVO.getId());
+        return paymentVO.getId();
+    }
+
+    @Override
+    public Optional<PaymentOutboxVO> getPaymentRequest(Long outboxId) {
+        return paymentDAO.findOutbox(outboxId);
     }
 
     @Override
@@ -112,7 +134,16 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
-    public List<DeliveryDTO> getPaymentByUserId(Long userId) {
-        return paymentDAO.findAllByUserId(userId);
+    public List<PurchaseHistoryDTO> getPurchaseHistory(Long userId, Long lastId, Integer size) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", userId);
+        params.put("lastId", lastId);
+        params.put("size", size == null ? DEFAULT_HISTORY_SIZE : Math.max(1, Math.min(size, MAX_HISTORY_SIZE)));
+        return paymentDAO.findHistoryByUserId(params);
+    }
+
+    @Override
+    public Map<String, Object> getGatewayStats() {
+        return paymentGatewayClient.stats();
     }
 }
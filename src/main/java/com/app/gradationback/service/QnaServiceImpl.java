@@ -2,17 +2,19 @@ package com.app.gradationback.service;
 
 import com.app.gradationback.domain.QnaDTO;
 import com.app.gradationback.domain.QnaVO;
+import com.app.gradationback.domain.UploadBlobVO;
 import com.app.gradationback.repository.QnaAnswerDAO;
 import com.app.gradationback.repository.QnaDAO;
 import com.app.gradationback.util.FileSaveUtil;
+import com.app.gradationback.util.ThumbnailUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
@@ -21,25 +23,31 @@ public class QnaServiceImpl implements QnaService {
 
     private final QnaDAO qnaDAO;
     private final QnaAnswerDAO qnaAnswerDAO;
+    private final ThumbnailUtil thumbnailUtil;
+    private final FileSaveUtil fileSaveUtil;
 
     //    등록
+//    파일 저장은 트랜잭션 밖에서 먼저 (커넥션을 두 개 잡지 않도록), 문의 저장에 실패하면 파일 참조 취소
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void registraction(QnaVO qnaVO, MultipartFile file) {
+        UploadBlobVO blob = null;
         try {
             if (file != null && !file.isEmpty()) {
-                String uuid = UUID.randomUUID().toString();
-                String fileName = uuid + "_" + file.getOriginalFilename();
-                String filePath = "images/qna";
+                blob = fileSaveUtil.fileSave(file);
+                if (!blob.isDuplicated()) {
+                    thumbnailUtil.generate(blob.getBlobPath(), blob.getBlobName());
+                }
 
-                FileSaveUtil fileSaveUtil = new FileSaveUtil();
-                fileSaveUtil.fileSave(file, filePath, fileName);
-
-                qnaVO.setQnaImgName(fileName);
-                qnaVO.setQnaImgPath("C:/upload/" + filePath);
+                qnaVO.setQnaImgName(blob.getBlobName());
+                qnaVO.setQnaImgPath(blob.getBlobPath());
             }
 
             qnaDAO.save(qnaVO);
         } catch (Exception e) {
+            if (blob != null) {
+                fileSaveUtil.release(List.of(blob));
+            }
             throw new RuntimeException("파일 저장에 실패하였습니다.", e);
         }
     }
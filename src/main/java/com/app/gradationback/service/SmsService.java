@@ -9,6 +9,6 @@ public interface SmsService {
 //    이메일 전송
     public ResponseEntity<Map<String, Object>> sendEmailVerification(String memberEmail);
 
-//    인증코드 확인
-    public boolean verifyAuthCode(String authCode);
+//    인증코드 확인 (해당 이메일로 보낸 코드인지)
+    public boolean verifyAuthCode(String memberEmail, String authCode);
 }
@@ -1,18 +1,17 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.VerificationCodeStore;
 import com.app.gradationback.util.SmsUtil;
-import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.SecureRandom;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @Slf4j
@@ -20,39 +19,47 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class SmsServiceImpl implements SmsService {
 
-    private final JavaMailSender javaMailSender;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private final SmsUtil smsUtil;
-    private final Map<String, String> codeMap = new ConcurrentHashMap<>();
+    private final VerificationCodeStore verificationCodeStore;
 
     //    이메일 전송
     @Override
     public ResponseEntity<Map<String, Object>> sendEmailVerification(String memberEmail) {
         Map<String, Object> response = new HashMap<>();
 
-        String verificationCode = String.format("%06d", (int)(Math.random() * 900000) + 100000);
+//        이메일이 없거나 형식이 아니면 발급하지 않음
+        String email = memberEmail != null ? VerificationCodeStore.normalize(memberEmail) : "";
+        if (email.isEmpty() || !email.contains("@")) {
+            response.put("message", "이메일을 확인해주세요");
+            return ResponseEntity.badRequest().body(response);
+        }
+        String verificationCode = String.format("%06d", RANDOM.nextInt(900000) + 100000);
     //        session.setAttribute("verificationCode", verificationCode);
 
         String emailSubject = "[Gradation] 이메일 인증코드";
         String emailContent = "안녕하세요, 아래 인증코드를 입력하세요\n["+ verificationCode +"]";
-        codeMap.put("verificationCode", verificationCode);
 
-        try {
-            smsUtil.sendEmail(memberEmail, emailSubject, emailContent);
-            response.put("message", "인증 코드가 전송되었습니다");
-            response.put("verificationCode", verificationCode);
-        } catch (MessagingException e) {
+//        이메일별로 저장 (유효 시간, 시도 횟수 제한), 같은 이메일로 너무 자주 요청하면 거절
+        if (!verificationCodeStore.put(email, verificationCode)) {
+            response.put("message", "인증 코드는 잠시 후 다시 요청할 수 있습니다");
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+        }
+
+//        발송 대기열에 넣고 바로 응답 (SMTP 전송은 EmailDispatcher 에서 처리)
+        if (!smsUtil.sendEmail(email, emailSubject, emailContent)) {
             response.put("message", "인증 코드 전송에 실패하였습니다");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
         }
+        response.put("message", "인증 코드가 전송되었습니다");
         return ResponseEntity.ok(response);
     }
 
 //    인증코드 검증
     @Override
-    public boolean verifyAuthCode(String authCode) {
-        String code = authCode != null ? authCode.replaceAll("\"", "") : null;
-        log.info(codeMap.get("verificationCode"));
-        log.info(code);
-        return codeMap.get("verificationCode").equals(code);
+    public boolean verifyAuthCode(String memberEmail, String authCode) {
+        String code = authCode != null ? authCode.replaceAll("\"", "").trim() : null;
+        return verificationCodeStore.verify(memberEmail, code);
     }
 }
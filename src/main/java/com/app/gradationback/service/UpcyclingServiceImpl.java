@@ -2,16 +2,18 @@ package com.app.gradationback.service;
 
 import com.app.gradationback.domain.UpcyclingDTO;
 import com.app.gradationback.domain.UpcyclingVO;
+import com.app.gradationback.domain.UploadBlobVO;
 import com.app.gradationback.repository.UpcyclingDAO;
 import com.app.gradationback.util.FileSaveUtil;
+import com.app.gradationback.util.ThumbnailUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
@@ -19,6 +21,8 @@ import java.util.UUID;
 public class UpcyclingServiceImpl implements UpcyclingService {
 
     private final UpcyclingDAO upcyclingDAO;
+    private final ThumbnailUtil thumbnailUtil;
+    private final FileSaveUtil fileSaveUtil;
 
     @Override
     public List<UpcyclingDTO> getUpcyclingUserList(Long userId) {
@@ -30,22 +34,26 @@ public class UpcyclingServiceImpl implements UpcyclingService {
         return upcyclingDAO.getByUpcyclingUser(id);
     }
 
+//    파일 저장은 트랜잭션 밖에서 먼저 (커넥션을 두 개 잡지 않도록), 업사이클링 저장에 실패하면 파일 참조 취소
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void register(UpcyclingVO upcyclingVO, MultipartFile file) {
+        UploadBlobVO blob = null;
         try {
-//          파일 저장 경로, 이름 설정
-            String uuid = UUID.randomUUID().toString();
-            String fileName = uuid + "_" + file.getOriginalFilename();
-            String filePath = "upcycling";
-//          파일 저장
-            FileSaveUtil fileSaveUtil = new FileSaveUtil();
-            fileSaveUtil.fileSave(file, filePath, fileName);
+//          파일 저장 (같은 내용이면 기존 파일 사용)
+            blob = fileSaveUtil.fileSave(file);
+            if (!blob.isDuplicated()) {
+                thumbnailUtil.generate(blob.getBlobPath(), blob.getBlobName());
+            }
 //          VO에 파일 정보 세팅
-            upcyclingVO.setUpcyclingImgName(fileName);
-            upcyclingVO.setUpcyclingImgPath("C:/upload/" + filePath);
+            upcyclingVO.setUpcyclingImgName(blob.getBlobName());
+            upcyclingVO.setUpcyclingImgPath(blob.getBlobPath());
 //          DB저장
             upcyclingDAO.save(upcyclingVO);
         }catch (Exception e){
+            if (blob != null) {
+                fileSaveUtil.release(List.of(blob));
+            }
             throw new RuntimeException("파일 저장에 실패하였습니다.", e);
         }
     }
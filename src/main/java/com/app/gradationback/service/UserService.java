@@ -23,6 +23,9 @@ public interface UserService {
 //    단일 회원 조회 (아이디로)
     public Optional<UserVO> getUserByIdentification(String userIdentification);
 
+//    인증용 회원 조회 (캐시, 비밀번호 제외)
+    public Optional<UserVO> getPrincipal(String userIdentification);
+
 //    로그인
     public String login(UserVO userVO);
 
@@ -1,13 +1,18 @@
 package com.app.gradationback.service;
 
+import com.app.gradationback.cache.ArtistDetailCache;
+import com.app.gradationback.cache.CommentCountCache;
+import com.app.gradationback.cache.UserPrincipalCache;
 import com.app.gradationback.domain.*;
 import com.app.gradationback.mapper.UserMapper;
 import com.app.gradationback.repository.*;
+import com.app.gradationback.util.AfterCommitUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -24,6 +29,10 @@ public class UserServiceImpl implements UserService {
     private final ArtImgDAO artImgDAO;
     private final ArtPostDAO artPostDAO;
     private final UserMapper userMapper;
+    private final ArtistDAO artistDAO;
+    private final CommentCountCache commentCountCache;
+    private final ArtistDetailCache artistDetailCache;
+    private final UserPrincipalCache userPrincipalCache;
 
     //    일반 회원가입
     @Override
@@ -55,6 +64,20 @@ public class UserServiceImpl implements UserService {
         return userDAO.findUserByIdentification(userIdentification);
     }
 
+    //    인증용 회원 조회 (캐시, 비밀번호 제외)
+    //    캐시에 있으면 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<UserVO> getPrincipal(String userIdentification) {
+        return Optional.ofNullable(userPrincipalCache.get(userIdentification, identification ->
+                userDAO.findUserByIdentification(identification)
+                        .map(user -> {
+                            user.setUserPassword(null);
+                            return user;
+                        })
+                        .orElse(null)));
+    }
+
     //    로그인
     @Override
     public String login(UserVO userVO) {
@@ -96,24 +119,30 @@ public class UserServiceImpl implements UserService {
         }
 
         userDAO.updatePassword(userVO);
+        invalidatePrincipal(userVO.getUserIdentification());
     }
 
     //    대학교 인증
     @Override
     public void modifyUniversityStatus(UserVO userVO) {
         userDAO.updateUniversityStatus(userVO);
+        AfterCommitUtil.run(userPrincipalCache::invalidateAll);
     }
 
     //    회원 정보 수정
     @Override
     public void modifyUser(UserVO userVO) {
         userDAO.updateUser(userVO);
+        refreshArtistCard(userVO.getUserIdentification());
+        invalidatePrincipal(userVO.getUserIdentification());
     }
 
     //    회원 프로필 이미지 수정
     @Override
     public void modifyProfileImg(UserVO userVO) {
         userDAO.updateProfileImg(userVO);
+        refreshArtistCard(userVO.getUserIdentification());
+        invalidatePrincipal(userVO.getUserIdentification());
     }
 
     //    회원 탈퇴 (댓글, 게시글 삭제)
@@ -136,7 +165,13 @@ public class UserServiceImpl implements UserService {
             artImgDAO.deleteAllByArtId(artId);
             artDAO.deleteById(artId);
         }
+        artistDAO.deleteArtistCard(userId);
         userDAO.deleteUser(userEmail);
+        AfterCommitUtil.run(() -> artistDetailCache.invalidate(userId));
+        AfterCommitUtil.run(() -> {
+            commentCountCache.invalidateAll();
+            userPrincipalCache.invalidateAll();
+        });
 
     }
 
@@ -145,12 +180,14 @@ public class UserServiceImpl implements UserService {
     public void banUser(BanDTO banDTO) {
         userDAO.insertBan(banDTO);
         userDAO.updateUserBanStatus(banDTO);
+        AfterCommitUtil.run(userPrincipalCache::invalidateAll);
     }
 
     //    관리자용 유저 정지 해제
     @Override
     public void updateUserBanStatus(BanDTO banDTO) {
         userDAO.updateUserBanStatus(banDTO);
+        AfterCommitUtil.run(userPrincipalCache::invalidateAll);
     }
 
     //    댓글 작성 시 정지 유저 확인
@@ -158,4 +195,21 @@ public class UserServiceImpl implements UserService {
     public Optional<UserVO> findUserByIdForWrite(Long id){
         return userDAO.findUserByIdForWrite(id);
     };
+
+    //    작가 카드 갱신, 작가 상세 캐시 무효화 (아이디로)
+    private void refreshArtistCard(String userIdentification) {
+        userDAO.findUserByIdentification(userIdentification).ifPresent(user -> {
+            artistDAO.refreshArtistCard(user.getId());
+            AfterCommitUtil.run(() -> artistDetailCache.invalidate(user.getId()));
+        });
+    }
+
+    //    인증용 회원 캐시 무효화 (커밋 후)
+    private void invalidatePrincipal(String userIdentification) {
+        if (userIdentification == null) {
+            AfterCommitUtil.run(userPrincipalCache::invalidateAll);
+            return;
+        }
+        AfterCommitUtil.run(() -> userPrincipalCache.invalidate(userIdentification));
+    }
 }
@@ -0,0 +1,92 @@
+package com.app.gradationback.storage;
+
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 로컬(또는 공유 마운트) 디스크 저장소
+public class LocalStorageService implements StorageService {
+
+    private final Path root;
+
+    public LocalStorageService(String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+//    같은 폴더에 임시 파일로 쓴 뒤 이름 변경 (읽는 쪽에서 쓰다 만 파일이 보이지 않도록)
+    @Override
+    public void write(String path, String name, InputStream in, long size) throws IOException {
+        Path target = resolve(path, name);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".write-", ".tmp");
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            move(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void store(String path, String name, Path source) throws IOException {
+        Path target = resolve(path, name);
+        Files.createDirectories(target.getParent());
+        move(source, target);
+    }
+
+    @Override
+    public InputStream open(String path, String name) throws IOException {
+        return Files.newInputStream(resolve(path, name));
+    }
+
+    @Override
+    public Optional<StoredFile> find(String path, String name) throws IOException {
+        Path file = resolve(path, name);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(new StoredFile(Files.size(file), Files.getLastModifiedTime(file).toMillis(), new FileSystemResource(file)));
+    }
+
+    @Override
+    public List<String> list(String path) throws IOException {
+        Path dir = root.resolve(StoragePaths.directory(path)).normalize();
+        if (!dir.startsWith(root) || !Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(Files::isRegularFile).map(file -> file.getFileName().toString()).toList();
+        }
+    }
+
+    @Override
+    public void delete(String path, String name) throws IOException {
+        Files.deleteIfExists(resolve(path, name));
+    }
+
+    private Path resolve(String path, String name) {
+        Path file = root.resolve(StoragePaths.key(path, name)).normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다. : " + path);
+        }
+        return file;
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+//            임시 폴더가 다른 디스크인 경우
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
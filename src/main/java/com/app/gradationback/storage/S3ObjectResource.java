@@ -0,0 +1,64 @@
+package com.app.gradationback.storage;
+
+import org.springframework.core.io.AbstractResource;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// S3 객체를 응답으로 스트리밍하기 위한 Resource
+// getInputStream 마다 새로 요청하므로 Range 응답에서 여러 번 읽어도 됨
+public class S3ObjectResource extends AbstractResource {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final String fileName;
+    private final long size;
+    private final long lastModified;
+
+    public S3ObjectResource(S3Client s3Client, String bucket, String key, String fileName, long size, long lastModified) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.fileName = fileName;
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("파일 조회 실패 : " + key, e);
+        }
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return size;
+    }
+
+    @Override
+    public long lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public String getFilename() {
+        return fileName;
+    }
+
+    @Override
+    public String getDescription() {
+        return "S3 object [" + bucket + "/" + key + "]";
+    }
+}
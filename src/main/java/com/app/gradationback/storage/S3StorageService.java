@@ -0,0 +1,116 @@
+package com.app.gradationback.storage;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// S3 호환 저장소 (AWS S3, MinIO 등), 모든 서버가 같은 파일을 봄
+// 키는 StoragePaths.key 결과를 그대로 사용
+public class S3StorageService implements StorageService {
+
+    private final S3Client s3Client;
+    private final String bucket;
+
+    public S3StorageService(S3Client s3Client, String bucket) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+    }
+
+    @Override
+    public void write(String path, String name, InputStream in, long size) throws IOException {
+        String key = StoragePaths.key(path, name);
+        try {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).contentLength(size).build(),
+                    RequestBody.fromInputStream(in, size));
+        } catch (SdkException e) {
+            throw new IOException("파일 저장 실패 : " + key, e);
+        }
+    }
+
+    @Override
+    public void store(String path, String name, Path source) throws IOException {
+        String key = StoragePaths.key(path, name);
+        try {
+            s3Client.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(), RequestBody.fromFile(source));
+        } catch (SdkException e) {
+            throw new IOException("파일 저장 실패 : " + key, e);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Override
+    public InputStream open(String path, String name) throws IOException {
+        String key = StoragePaths.key(path, name);
+        try {
+            return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new NoSuchFileException(key);
+            }
+            throw new IOException("파일 조회 실패 : " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("파일 조회 실패 : " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<StoredFile> find(String path, String name) throws IOException {
+        String key = StoragePaths.key(path, name);
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            long size = head.contentLength();
+            long lastModified = head.lastModified().toEpochMilli();
+            return Optional.of(new StoredFile(size, lastModified, new S3ObjectResource(s3Client, bucket, key, name, size, lastModified)));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("파일 조회 실패 : " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("파일 조회 실패 : " + key, e);
+        }
+    }
+
+    @Override
+    public List<String> list(String path) throws IOException {
+        String directory = StoragePaths.directory(path);
+        String prefix = directory.isEmpty() ? "" : directory + "/";
+        List<String> names = new ArrayList<>();
+        try {
+            ListObjectsV2Request request = ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).delimiter("/").build();
+            for (S3Object object : s3Client.listObjectsV2Paginator(request).contents()) {
+                names.add(object.key().substring(prefix.length()));
+            }
+        } catch (SdkException e) {
+            throw new IOException("파일 목록 조회 실패 : " + prefix, e);
+        }
+        return names;
+    }
+
+    @Override
+    public void delete(String path, String name) throws IOException {
+        String key = StoragePaths.key(path, name);
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("파일 삭제 실패 : " + key, e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.app.gradationback.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 저장소 키 생성 (루트 기준 상대 경로, 상위 경로 접근 차단)
+public final class StoragePaths {
+
+//    QnA, 업사이클링 등 예전 데이터에 저장된 전체 경로 접두사
+    public static final String LEGACY_ROOT = "C:/upload/";
+
+    private StoragePaths() {
+    }
+
+    public static String key(String path, String name) {
+        if (name == null || name.isBlank() || name.contains("/") || name.contains("\\") || name.equals("..") || name.equals(".")) {
+            throw new IllegalArgumentException("잘못된 파일 이름입니다. : " + name);
+        }
+        String dir = directory(path);
+        return dir.isEmpty() ? name : dir + "/" + name;
+    }
+
+    public static String directory(String path) {
+        if (path == null) {
+            return "";
+        }
+        String normalized = path.replace('\\', '/');
+        if (normalized.regionMatches(true, 0, LEGACY_ROOT, 0, LEGACY_ROOT.length())) {
+            normalized = normalized.substring(LEGACY_ROOT.length());
+        }
+
+        List<String> segments = new ArrayList<>();
+        for (String segment : normalized.split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..") || segment.contains(":")) {
+                throw new IllegalArgumentException("잘못된 파일 경로입니다. : " + path);
+            }
+            segments.add(segment);
+        }
+        return String.join("/", segments);
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.gradationback.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+// 업로드 파일 저장소 (로컬 디스크 / S3 호환 스토리지)
+// path 는 저장소 루트 기준 경로 (예: blobs/ab/cd), 기존 "C:/upload/..." 경로도 받아서 루트 기준으로 맞춤
+public interface StorageService {
+
+//    스트림을 그대로 저장 (메모리에 전체를 올리지 않음)
+    public void write(String path, String name, InputStream in, long size) throws IOException;
+
+//    로컬 임시 파일을 저장소로 이동 (원본 임시 파일은 삭제됨)
+    public void store(String path, String name, Path source) throws IOException;
+
+//    읽기 스트림 (없으면 NoSuchFileException)
+    public InputStream open(String path, String name) throws IOException;
+
+//    파일 정보 + 응답용 Resource (없으면 empty)
+    public Optional<StoredFile> find(String path, String name) throws IOException;
+
+    public default boolean exists(String path, String name) throws IOException {
+        return find(path, name).isPresent();
+    }
+
+//    해당 경로 바로 아래의 파일 이름
+    public List<String> list(String path) throws IOException;
+
+    public void delete(String path, String name) throws IOException;
+}
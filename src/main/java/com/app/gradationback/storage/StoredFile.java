@@ -0,0 +1,7 @@
+package com.app.gradationback.storage;
+
+import org.springframework.core.io.Resource;
+
+// 저장된 파일 정보 (크기, 수정 시각, 스트리밍용 Resource)
+public record StoredFile(long size, long lastModified, Resource resource) {
+}
@@ -0,0 +1,23 @@
+package com.app.gradationback.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AfterCommitUtil {
+
+    private AfterCommitUtil() {}
+
+//    트랜잭션 커밋 후 실행 (트랜잭션이 없으면 바로 실행)
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
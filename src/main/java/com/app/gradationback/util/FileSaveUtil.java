@@ -1,22 +1,189 @@
 package com.app.gradationback.util;
 
+import com.app.gradationback.domain.UploadBlobVO;
+import com.app.gradationback.repository.UploadBlobDAO;
+import com.app.gradationback.storage.StorageService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+// 업로드 파일을 내용(SHA-256) 기준으로 저장 (저장소는 StorageService)
+// 같은 내용은 blobs/{해시 앞 2자리}/{다음 2자리}/{해시}.{확장자} 하나만 두고 TBL_UPLOAD_BLOB 에 참조 수를 기록
+// 파일이 이미 있는지는 TBL_UPLOAD_BLOB 행을 잠근 상태에서 판단 (여러 서버가 같은 저장소를 쓰는 경우 UploadBlobSweeper 와 겹치지 않도록)
+@Component
 @Slf4j
 public class FileSaveUtil {
-    public void fileSave(MultipartFile file, String filePath, String fileName) throws IOException{
 
-        File dir = new File("C:/upload/" + filePath);
-        if (!dir.exists()) {
-            dir.mkdirs();
+    public static final String BLOB_PATH = "blobs";
+
+    private final UploadBlobDAO uploadBlobDAO;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+    private final Path tempDir;
+
+    public FileSaveUtil(UploadBlobDAO uploadBlobDAO, StorageService storageService, PlatformTransactionManager transactionManager,
+                        @Qualifier("uploadExecutor") ThreadPoolTaskExecutor uploadExecutor,
+                        @Value("${file.storage.temp-dir:${java.io.tmpdir}}") String tempDir) {
+        this.uploadBlobDAO = uploadBlobDAO;
+        this.storageService = storageService;
+        this.uploadExecutor = uploadExecutor;
+        this.tempDir = Paths.get(tempDir, "gradation-upload");
+//        참조 등록 + 파일 저장을 자체 트랜잭션으로 바로 커밋
+//        트랜잭션 안에서 호출하면 커넥션을 두 개 잡게 되므로 허용하지 않음 (파일 저장 후 DB 저장, 실패하면 release)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NEVER);
+    }
+
+//    임시 파일로 받으면서 해시 계산 -> 이미 있는 내용이면 임시 파일만 삭제
+//    참조 수가 1 이면 (새로 만들었거나 정리 대상에서 되살린 행) 파일이 있어도 다시 저장
+//    반환된 blobPath, blobName 을 이미지 VO 에 저장
+    public UploadBlobVO fileSave(MultipartFile file) throws IOException {
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".tmp");
+
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            UploadBlobVO uploadBlobVO = new UploadBlobVO();
+            uploadBlobVO.setBlobHash(hash);
+            uploadBlobVO.setBlobPath(BLOB_PATH + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4));
+            uploadBlobVO.setBlobName(hash + extensionOf(file.getOriginalFilename()));
+            uploadBlobVO.setBlobSize(Files.size(temp));
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveBlob(uploadBlobVO, temp));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return uploadBlobVO;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+//    여러 파일을 동시에 저장 (결과는 files 순서와 같음)
+//    하나라도 실패하면 저장된 파일의 참조를 되돌리고 예외 (파일은 정리 작업이 삭제)
+    public List<UploadBlobVO> fileSaveAll(List<MultipartFile> files) throws IOException {
+        if (files.size() == 1) {
+            return List.of(fileSave(files.get(0)));
+        }
+
+        List<CompletableFuture<UploadBlobVO>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return fileSave(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, uploadExecutor))
+                .toList();
+
+        List<UploadBlobVO> saved = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<UploadBlobVO> future : futures) {
+            try {
+                saved.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+
+        if (failure != null) {
+            release(saved);
+            if (failure instanceof UncheckedIOException e) {
+                throw e.getCause();
+            }
+            throw new IOException("파일 저장에 실패하였습니다.", failure);
         }
+        return saved;
+    }
+
+//    저장한 파일의 참조 취소 (DB 저장 실패 등)
+    public void release(List<UploadBlobVO> blobs) {
+        for (UploadBlobVO blob : blobs) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> uploadBlobDAO.releaseReference(blob.getBlobName()));
+            } catch (RuntimeException e) {
+//                참조 수는 정리 작업에서 다시 계산되므로 로그만 남김
+                log.warn("파일 참조 취소 실패 : {}", blob.getBlobName(), e);
+            }
+        }
+    }
 
-        File dest = new File("C:/upload/" + filePath + "/" + fileName);
-        file.transferTo(dest);
+//    참조 등록 후 행을 잠근 채로 파일 확인/저장 (저장에 실패하면 참조 등록도 롤백)
+    private void saveBlob(UploadBlobVO uploadBlobVO, Path temp) {
+        uploadBlobDAO.saveReference(uploadBlobVO);
+        Integer refCount = uploadBlobDAO.findRefCountForUpdate(uploadBlobVO.getBlobName());
+        if (refCount == null) {
+//            등록하는 사이 정리 작업이 행을 지운 경우 다시 등록
+            uploadBlobDAO.saveReference(uploadBlobVO);
+            refCount = uploadBlobDAO.findRefCountForUpdate(uploadBlobVO.getBlobName());
+        }
+
+        try {
+            if (refCount != null && refCount > 1
+                    && storageService.exists(uploadBlobVO.getBlobPath(), uploadBlobVO.getBlobName())) {
+                uploadBlobVO.setDuplicated(true);
+                log.info("이미 저장된 파일 : {}", uploadBlobVO.getBlobName());
+                return;
+            }
+            storageService.store(uploadBlobVO.getBlobPath(), uploadBlobVO.getBlobName(), temp);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+//    확장자는 영문/숫자만 (이미지 형식 판단, Content-Type 용)
+    private String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int index = originalFilename.lastIndexOf('.');
+        if (index < 0) {
+            return "";
+        }
+        String extension = originalFilename.substring(index + 1).toLowerCase(Locale.ROOT);
+        if (extension.isEmpty() || extension.length() > 10 || !extension.matches("[a-z0-9]+")) {
+            return "";
+        }
+        return "." + extension;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -3,21 +3,44 @@ package com.app.gradationback.util;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Slf4j
 public class JwtTokenUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+//    파싱된 클레임 + 토큰 만료 시각
+    private record CachedClaims(Claims claims, long expiresAt) {}
+
+//    서명 키는 시작할 때 한 번만 만듦 (기존처럼 jwt.secret 은 Base64 문자열)
+    private final SecretKey secretKey;
+
+//    검증이 끝난 토큰의 클레임, 토큰 해시(SHA-256) 별
+//    토큰 만료 시각까지만 보관하고 최대 개수를 넘으면 만료된 것부터 정리
+    private final Map<String, CachedClaims> claimsCache = new ConcurrentHashMap<>();
+    private final int maxCacheSize;
+
+    public JwtTokenUtil(@Value("${jwt.secret}") String secret,
+                        @Value("${jwt.cache.max-size:10000}") int maxCacheSize) {
+        this.secretKey = new SecretKeySpec(Decoders.BASE64.decode(secret), "HmacSHA256");
+        this.maxCacheSize = maxCacheSize;
+    }
 
 //    토큰 생성 메서드
     public String generateToken(Map<String, Object> claims) {
@@ -37,31 +60,43 @@ public class JwtTokenUtil {
         return Jwts.builder()
                 .claims(userInfo)
                 .setExpiration(expirationDate)
-                .signWith(SignatureAlgorithm.HS256, secretKey) // sha-256
+                .signWith(secretKey, Jwts.SIG.HS256) // sha-256
                 .setHeaderParam("typ", "JWT")
                 .compact();
     }
 
-//    토큰 파싱 메서드
+//    토큰 파싱 메서드 (한 번 검증한 토큰은 만료 전까지 캐시에서 꺼냄)
+//    만료는 흔한 경우라 debug, 잘못된 토큰은 warn 으로 메시지만 남김 (스택 트레이스 없음)
     public Claims parseToken(String token) {
+        if (token == null) {
+            throw new RuntimeException("Invalid JWT Token");
+        }
         try {
-            return Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return verify(token);
 
         } catch (ExpiredJwtException e) {
 //            만료된 토큰 처리
-            log.error("Expired JWT Token", e);
+            log.debug("Expired JWT Token : {}", e.getMessage());
             throw new RuntimeException("Expired JWT Token");
         } catch (Exception e) {
 //            토큰 정보 일치하지 않음
-            log.error("Invalid JWT Token", e);
+            log.warn("Invalid JWT Token : {}", e.getMessage());
             throw new RuntimeException("Invalid JWT Token"); // 실제로는 프로젝트 exception으로 변경하기
         }
     }
 
+//    매 요청 인증 필터용 : 만료되었거나 잘못된 토큰이면 로그, 예외 없이 empty
+    public Optional<Claims> findClaims(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(verify(token));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
 //    JWT 토큰에서 이메일 추출
     public String getEmailFromToken(String token) {
         Claims claims = parseToken(token);
@@ -81,11 +116,57 @@ public class JwtTokenUtil {
 
 //    토큰이 유효한지 아닌지 검증
     public boolean isTokenValid(String token) {
+        return findClaims(token).isPresent();
+    }
+
+//    서명, 만료 검증 (실패하면 jjwt 예외를 그대로 던짐)
+    private Claims verify(String token) {
+        String key = hash(token);
+        CachedClaims cached = claimsCache.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.claims();
+            }
+            claimsCache.remove(key, cached);
+            throw new ExpiredJwtException(null, cached.claims(), "Expired JWT Token");
+        }
+
+        Claims claims = Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+        cache(key, claims);
+        return claims;
+    }
+
+//    만료 시각이 있는 토큰만 저장
+    private void cache(String key, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (claimsCache.size() >= maxCacheSize) {
+            claimsCache.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (claimsCache.size() >= maxCacheSize) {
+                Iterator<String> iterator = claimsCache.keySet().iterator();
+                if (iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+        claimsCache.put(key, new CachedClaims(claims, expiration.getTime()));
+    }
+
+//    토큰 원문 대신 해시를 키로 사용
+    private static String hash(String token) {
         try {
-            parseToken(token);
-            return true;
-        } catch (Exception e) {
-            return false; // 유효하지 않는 토큰
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
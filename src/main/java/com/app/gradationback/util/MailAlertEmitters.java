@@ -0,0 +1,117 @@
+package com.app.gradationback.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 헤더 알림 수 실시간 전송 (SSE)
+// 회원별로 연결된 탭(emitter)을 보관하고, 읽지 않은 알림 수가 바뀌면 모두에게 전송
+// 연결은 서버마다 따로라 다른 서버에서 바뀐 수는 MailAlertSync 가 DB 에서 다시 세어 전송
+@Component
+@Slf4j
+public class MailAlertEmitters {
+
+    public static final String EVENT_NAME = "notRead-count";
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+//    회원별 마지막으로 보낸 알림 수 (같은 값은 다시 보내지 않도록)
+    private final Map<Long, Integer> lastCounts = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final int maxPerUser;
+
+    public MailAlertEmitters(@Value("${mail.sse.timeout-ms:1800000}") long timeoutMillis,
+                             @Value("${mail.sse.max-per-user:5}") int maxPerUser) {
+        this.timeoutMillis = timeoutMillis;
+        this.maxPerUser = maxPerUser;
+    }
+
+//    연결 등록 (연결 수가 많으면 가장 오래된 연결부터 종료)
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        List<SseEmitter> overflow = new ArrayList<>();
+        emitters.compute(userId, (key, userEmitters) -> {
+            List<SseEmitter> list = userEmitters == null ? new CopyOnWriteArrayList<>() : userEmitters;
+            list.add(emitter);
+            while (list.size() > maxPerUser) {
+                overflow.add(list.remove(0));
+            }
+            return list;
+        });
+        overflow.forEach(SseEmitter::complete);
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(error -> remove(userId, emitter));
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        return userEmitters != null && !userEmitters.isEmpty();
+    }
+
+//    이 서버에 연결된 회원 번호
+    public List<Long> subscribedUserIds() {
+        return new ArrayList<>(emitters.keySet());
+    }
+
+//    마지막으로 보낸 알림 수 (보낸 적 없으면 null)
+    public Integer lastCount(Long userId) {
+        return lastCounts.get(userId);
+    }
+
+//    해당 회원의 모든 연결에 알림 수 전송
+    public void send(Long userId, int count) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        lastCounts.put(userId, count);
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, count);
+        }
+    }
+
+    public void send(Long userId, SseEmitter emitter, int count) {
+        lastCounts.put(userId, count);
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(count));
+        } catch (IOException | IllegalStateException e) {
+            remove(userId, emitter);
+        }
+    }
+
+//    프록시가 유휴 연결을 끊지 않도록 주기적으로 빈 이벤트 전송, 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${mail.sse.heartbeat-ms:30000}")
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> {
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    remove(userId, emitter);
+                }
+            }
+        });
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            userEmitters.remove(emitter);
+            if (userEmitters.isEmpty()) {
+                lastCounts.remove(userId);
+                return null;
+            }
+            return userEmitters;
+        });
+    }
+}
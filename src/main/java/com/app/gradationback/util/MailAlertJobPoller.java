@@ -0,0 +1,25 @@
+package com.app.gradationback.util;
+
+import com.app.gradationback.service.MailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 처리되지 않은 알림 일괄 등록 작업 다시 처리 (대기열 초과로 거절, 서버 재시작, 등록 실패 등)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailAlertJobPoller {
+
+    private final MailService mailService;
+
+    @Scheduled(initialDelayString = "${mail.alert.job.poll-initial-delay-ms:30000}", fixedDelayString = "${mail.alert.job.poll-interval-ms:60000}")
+    public void poll() {
+        try {
+            mailService.processAlertJobs();
+        } catch (RuntimeException e) {
+            log.warn("알림 일괄 등록 작업 조회 실패", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.gradationback.util;
+
+import com.app.gradationback.cache.UnreadMailCounter;
+import com.app.gradationback.domain.MailDTO;
+import com.app.gradationback.repository.MailDAO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// 다른 서버에서 바뀐 읽지 않은 알림 수를 이 서버에 연결된 회원에게 전송
+// 알림 등록/읽음은 처리한 서버의 연결에만 바로 전송되므로, 연결된 회원의 수를 주기적으로 DB 에서 다시 세어
+// 마지막으로 보낸 값과 다르면 전송하고 메모리 카운터도 비움 (여러 서버여도 DB 가 기준)
+@Component
+@Slf4j
+public class MailAlertSync {
+
+    private final MailDAO mailDAO;
+    private final UnreadMailCounter unreadMailCounter;
+    private final MailAlertEmitters mailAlertEmitters;
+    private final int chunkSize;
+
+    public MailAlertSync(MailDAO mailDAO, UnreadMailCounter unreadMailCounter, MailAlertEmitters mailAlertEmitters,
+                         @Value("${mail.alert.chunk-size:500}") int chunkSize) {
+        this.mailDAO = mailDAO;
+        this.unreadMailCounter = unreadMailCounter;
+        this.mailAlertEmitters = mailAlertEmitters;
+//        IN 목록은 1000개까지
+        this.chunkSize = Math.max(1, Math.min(chunkSize, 1000));
+    }
+
+    @Scheduled(fixedDelayString = "${mail.sse.sync-ms:30000}")
+    public void sync() {
+        List<Long> userIds = mailAlertEmitters.subscribedUserIds();
+        for (int from = 0; from < userIds.size(); from += chunkSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            try {
+                sync(chunk);
+            } catch (RuntimeException e) {
+                log.warn("알림 수 동기화 실패 ({}명)", chunk.size(), e);
+            }
+        }
+    }
+
+//    세는 사이 이 서버에서 쓰기가 있었으면 이미 보낸 값이 더 최신일 수 있으므로 다음 주기에 다시
+    private void sync(List<Long> userIds) {
+        long loadVersion = unreadMailCounter.currentVersion();
+        Map<Long, Integer> counts = new HashMap<>();
+        for (MailDTO mailDTO : mailDAO.findNotReadCounts(userIds)) {
+            counts.put(mailDTO.getReceiveUserId(), mailDTO.getNotReadCount());
+        }
+        if (loadVersion != unreadMailCounter.currentVersion()) {
+            return;
+        }
+
+        for (Long userId : userIds) {
+            int count = counts.getOrDefault(userId, 0);
+            if (!Objects.equals(mailAlertEmitters.lastCount(userId), count)) {
+                unreadMailCounter.invalidate(userId);
+                mailAlertEmitters.send(userId, count);
+            }
+        }
+    }
+}
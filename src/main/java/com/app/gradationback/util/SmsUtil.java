@@ -1,11 +1,9 @@
 package com.app.gradationback.util;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.app.gradationback.mail.EmailDispatcher;
+import com.app.gradationback.mail.EmailMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,20 +11,13 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class SmsUtil {
 
-    private final JavaMailSender JavaMailSender;
-
-    //    이메일 발송
-    public void sendEmail(String to, String subject, String content) throws MessagingException {
-        MimeMessage mimeMessage = JavaMailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true);
-
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(content);
-
-        JavaMailSender.send(mimeMessage);
-        log.info("이메일 전송 완료 : {}", to);
+    private final EmailDispatcher emailDispatcher;
 
+    //    이메일 발송 (발송 대기열에 넣고 바로 반환, 대기열이 가득 차면 false)
+    public boolean sendEmail(String to, String subject, String content) {
+        boolean queued = emailDispatcher.enqueue(new EmailMessage(to, subject, content));
+        log.info("이메일 발송 요청 : {} ({})", to, queued ? "대기열 등록" : "대기열 초과");
+        return queued;
     }
 
 }
@@ -0,0 +1,183 @@
+package com.app.gradationback.util;
+
+import com.app.gradationback.storage.StorageService;
+import com.app.gradationback.storage.StoragePaths;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 업로드 이미지 썸네일 생성 (백그라운드)
+// 너비별로 w{너비}_{파일명} 을 원본과 같은 경로에 저장하고, 어떤 너비가 있는지 기록해 둠
+// 직접 만든 기록은 계속 사용, 저장소를 확인한 기록은 생성 중이거나 다른 서버에서 만드는 중일 수 있어 잠깐만 사용
+@Component
+@Slf4j
+public class ThumbnailUtil {
+
+//    기존 작품 목록에서 쓰는 300x300 썸네일 접두사
+    public static final String LEGACY_PREFIX = "t_";
+
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+    private final StorageService storageService;
+    private final int[] widths;
+    private final int registryMaxSize;
+    private final long scanTtlMillis;
+
+//    만들어진 썸네일 너비 + 기록 만료 시각
+    private record Variants(NavigableSet<Integer> widths, long expiresAt) {}
+
+//    파일(경로/이름) -> 만들어진 썸네일 너비
+    private final Map<String, Variants> variants = new ConcurrentHashMap<>();
+
+    public ThumbnailUtil(@Qualifier("thumbnailExecutor") ThreadPoolTaskExecutor thumbnailExecutor,
+                         StorageService storageService,
+                         @Value("${file.thumbnail.widths:150,300,600}") int[] widths,
+                         @Value("${file.thumbnail.registry-max-size:100000}") int registryMaxSize,
+                         @Value("${file.thumbnail.scan-ttl-seconds:60}") long scanTtlSeconds) {
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.storageService = storageService;
+        this.widths = Arrays.stream(widths).sorted().distinct().toArray();
+        this.registryMaxSize = registryMaxSize;
+        this.scanTtlMillis = scanTtlSeconds * 1000;
+    }
+
+//    썸네일 생성 요청 (원본은 이미 저장되어 있어야 함)
+    public void generate(String filePath, String fileName) {
+        generate(filePath, fileName, false);
+    }
+
+//    작품 이미지는 기존 t_ 썸네일도 같이 생성
+    public void generate(String filePath, String fileName, boolean legacyThumbnail) {
+        try {
+            thumbnailExecutor.execute(() -> createVariants(filePath, fileName, legacyThumbnail));
+        } catch (TaskRejectedException e) {
+            log.warn("썸네일 생성 대기열이 가득 차서 건너뜀 : {}/{}", filePath, fileName);
+        }
+    }
+
+//    요청한 너비 이상인 썸네일 중 가장 작은 것, 없으면 원본 파일명
+    public String resolve(String filePath, String fileName, int width) {
+        Integer variant = findVariants(filePath, fileName).ceiling(width);
+        return variant == null ? fileName : variantName(variant, fileName);
+    }
+
+//    원본이 삭제된 경우 기록 제거
+    public void forget(String filePath, String fileName) {
+        variants.remove(StoragePaths.key(filePath, fileName));
+    }
+
+    public static String variantName(int width, String fileName) {
+        return "w" + width + "_" + fileName;
+    }
+
+    private void createVariants(String filePath, String fileName, boolean legacyThumbnail) {
+        try {
+            BufferedImage original;
+            try (InputStream in = storageService.open(filePath, fileName)) {
+                original = ImageIO.read(in);
+            }
+            if (original == null) {
+//                이미지가 아닌 파일
+                return;
+            }
+
+            String format = formatOf(fileName);
+            if (legacyThumbnail) {
+                write(Thumbnails.of(original).size(300, 300).asBufferedImage(), format, filePath, LEGACY_PREFIX + fileName);
+            }
+
+            NavigableSet<Integer> created = new ConcurrentSkipListSet<>();
+            for (int width : widths) {
+//                원본보다 큰 썸네일은 만들지 않음 (원본 사용)
+                if (width >= original.getWidth()) {
+                    break;
+                }
+                if (write(Thumbnails.of(original).width(width).asBufferedImage(), format, filePath, variantName(width, fileName))) {
+                    created.add(width);
+                }
+            }
+//            모든 너비를 만든 뒤 기록 (원본이 작아 하나도 없는 경우도 확정된 결과)
+            register(StoragePaths.key(filePath, fileName), new Variants(created, Long.MAX_VALUE));
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패 : {}/{}", filePath, fileName, e);
+        }
+    }
+
+    private boolean write(BufferedImage image, String format, String filePath, String fileName) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, out)) {
+//            해당 형식으로 저장할 수 없는 이미지 (예: 투명도가 있는 jpg)
+            return false;
+        }
+        storageService.write(filePath, fileName, new ByteArrayInputStream(out.toByteArray()), out.size());
+        return true;
+    }
+
+//    기록이 없거나 확인 기록이 만료되었으면 저장소에서 확인 (서버 재시작 후, 다른 서버에서 생성한 경우 등)
+//    아무것도 없으면 아직 생성 전일 수 있으므로 기록하지 않음
+    private NavigableSet<Integer> findVariants(String filePath, String fileName) {
+        String key = StoragePaths.key(filePath, fileName);
+        long now = System.currentTimeMillis();
+        Variants found = variants.get(key);
+        if (found != null && found.expiresAt() > now) {
+            return found.widths();
+        }
+
+        NavigableSet<Integer> scanned = new ConcurrentSkipListSet<>();
+        for (int width : widths) {
+            try {
+                if (storageService.exists(filePath, variantName(width, fileName))) {
+                    scanned.add(width);
+                }
+            } catch (IOException e) {
+                log.warn("썸네일 확인 실패 : {}/{}", filePath, fileName, e);
+            }
+        }
+        if (!scanned.isEmpty()) {
+            Variants scannedVariants = new Variants(scanned, now + scanTtlMillis);
+//            확인하는 사이 이 서버에서 생성을 마쳤으면 그 기록을 유지
+            variants.compute(key, (k, current) ->
+                    current != null && current.expiresAt() == Long.MAX_VALUE ? current : scannedVariants);
+            evictIfFull();
+        }
+        return scanned;
+    }
+
+    private void register(String key, Variants created) {
+        variants.put(key, created);
+        evictIfFull();
+    }
+
+    private void evictIfFull() {
+        if (variants.size() <= registryMaxSize) {
+            return;
+        }
+        Iterator<String> iterator = variants.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private String formatOf(String fileName) {
+        int index = fileName.lastIndexOf('.');
+        String extension = index < 0 ? "" : fileName.substring(index + 1).toLowerCase();
+        return ImageIO.getImageWritersBySuffix(extension).hasNext() ? extension : "jpg";
+    }
+}
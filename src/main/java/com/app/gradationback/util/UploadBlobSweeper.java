@@ -0,0 +1,87 @@
+package com.app.gradationback.util;
+
+import com.app.gradationback.cache.ImageByteCache;
+import com.app.gradationback.domain.UploadBlobVO;
+import com.app.gradationback.repository.UploadBlobDAO;
+import com.app.gradationback.storage.StoragePaths;
+import com.app.gradationback.storage.StorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+
+// 참조되지 않는 업로드 파일 정리
+// 이미지 테이블 기준으로 참조 수를 다시 계산하고, 0 인 상태로 유예 시간이 지난 파일과 썸네일을 삭제
+// 파일마다 TBL_UPLOAD_BLOB 행을 잠근 트랜잭션 안에서 삭제 (업로드 중인 파일은 건너뜀, FileSaveUtil 참고)
+@Component
+@Slf4j
+public class UploadBlobSweeper {
+
+    private final UploadBlobDAO uploadBlobDAO;
+    private final StorageService storageService;
+    private final ThumbnailUtil thumbnailUtil;
+    private final ImageByteCache imageByteCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int graceHours;
+
+    public UploadBlobSweeper(UploadBlobDAO uploadBlobDAO, StorageService storageService,
+                             ThumbnailUtil thumbnailUtil, ImageByteCache imageByteCache,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${file.blob.grace-hours:24}") int graceHours) {
+        this.uploadBlobDAO = uploadBlobDAO;
+        this.storageService = storageService;
+        this.thumbnailUtil = thumbnailUtil;
+        this.imageByteCache = imageByteCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.graceHours = graceHours;
+    }
+
+    @Scheduled(initialDelayString = "${file.blob.sweep-initial-delay-ms:600000}", fixedDelayString = "${file.blob.sweep-interval-ms:3600000}")
+    public void sweep() {
+        try {
+            int updated = uploadBlobDAO.updateRefCount();
+            List<UploadBlobVO> blobs = uploadBlobDAO.findUnreferenced(graceHours);
+            int deleted = 0;
+            for (UploadBlobVO blob : blobs) {
+                if (delete(blob)) {
+                    deleted++;
+                }
+            }
+            log.info("업로드 파일 정리 : 참조 수 변경 {}건, 삭제 {}건", updated, deleted);
+        } catch (RuntimeException e) {
+            log.warn("업로드 파일 정리 실패", e);
+        }
+    }
+
+//    행을 잠그고 (그 사이 다시 참조되었으면 건너뜀) 파일 삭제 후 행 삭제
+//    파일 삭제에 실패하면 행은 남겨두고 다음 정리에서 다시 (그 사이 업로드되면 파일을 다시 저장함)
+    private boolean delete(UploadBlobVO blob) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (uploadBlobDAO.findUnreferencedForUpdate(blob).isEmpty()) {
+                return false;
+            }
+
+            String suffix = "_" + blob.getBlobName();
+            try {
+                for (String name : storageService.list(blob.getBlobPath())) {
+                    if (name.equals(blob.getBlobName()) || name.endsWith(suffix)) {
+                        storageService.delete(blob.getBlobPath(), name);
+                        imageByteCache.invalidate(StoragePaths.key(blob.getBlobPath(), name));
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("파일 삭제 실패 : {}/{}", blob.getBlobPath(), blob.getBlobName(), e);
+                status.setRollbackOnly();
+                return false;
+            }
+            uploadBlobDAO.deleteUnreferenced(blob.getBlobName());
+            thumbnailUtil.forget(blob.getBlobPath(), blob.getBlobName());
+            return true;
+        }));
+    }
+}
@@ -0,0 +1,36 @@
+package com.app.gradationback.mapper.donggeon;
+
+import com.app.gradationback.cache.ArtistDetailCache;
+import com.app.gradationback.domain.ArtistDetailDTO;
+import com.app.gradationback.domain.HistoryVO;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ArtistDetailCacheTests {
+
+//    호출하는 쪽에서 값을 바꿔도 캐시된 값은 그대로
+    @Test
+    public void copyTest() {
+        ArtistDetailCache cache = new ArtistDetailCache(60, 10);
+        HistoryVO historyVO = new HistoryVO();
+        historyVO.setHistoryContent("개인전");
+        ArtistDetailDTO loaded = new ArtistDetailDTO();
+        loaded.setId(1L);
+        loaded.setUserName("작가");
+        loaded.setHistoryList(new ArrayList<>(List.of(historyVO)));
+
+        ArtistDetailDTO first = cache.get(1L, id -> loaded);
+        first.setUserName("변경");
+        first.getHistoryList().get(0).setHistoryContent("변경");
+
+        ArtistDetailDTO second = cache.get(1L, id -> null);
+        assertNotSame(first, second);
+        assertEquals("작가", second.getUserName());
+        assertEquals("개인전", second.getHistoryList().get(0).getHistoryContent());
+        assertThrows(UnsupportedOperationException.class, () -> second.getHistoryList().add(new HistoryVO()));
+    }
+}
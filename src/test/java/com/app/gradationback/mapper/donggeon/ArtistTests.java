@@ -72,7 +72,7 @@ public class ArtistTests {
     @Test
     public void getArtistDetailTest() {
         Long userId = 2L;
-        ArtistDetailDTO artistDetail = artistService.getArtistDetailById(userId);
+        ArtistDetailDTO artistDetail = artistService.getArtistDetailById(userId).orElseThrow();
 
         log.info("프로필: {} / {}", artistDetail.getUserImgPath(), artistDetail.getUserImgName());
         log.info("작가 이름: {}", artistDetail.getUserName());
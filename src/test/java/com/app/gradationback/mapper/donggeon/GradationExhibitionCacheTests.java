@@ -0,0 +1,39 @@
+package com.app.gradationback.mapper.donggeon;
+
+import com.app.gradationback.cache.GradationExhibitionCache;
+import com.app.gradationback.domain.ExhibitionPastDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GradationExhibitionCacheTests {
+
+//    만료 전에는 저장된 목록, 무효화 후에는 다시 조회
+    @Test
+    public void invalidateTest() {
+        GradationExhibitionCache cache = new GradationExhibitionCache(60);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getPast(() -> { loads.incrementAndGet(); return List.of(new ExhibitionPastDTO()); });
+        cache.getPast(() -> { loads.incrementAndGet(); return List.of(); });
+        assertEquals(1, loads.get());
+
+        cache.invalidateAll();
+        assertTrue(cache.getPast(() -> { loads.incrementAndGet(); return List.of(); }).isEmpty());
+        assertEquals(2, loads.get());
+    }
+
+//    만료 시간이 지나면 무효화 없이도 다시 조회
+    @Test
+    public void expireTest() {
+        GradationExhibitionCache cache = new GradationExhibitionCache(0);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.getRecent(() -> { loads.incrementAndGet(); return List.of(); });
+        cache.getRecent(() -> { loads.incrementAndGet(); return List.of(); });
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.gradationback.mapper.donggeon;
+
+import com.app.gradationback.cache.UniversityExhibitionCache;
+import com.app.gradationback.domain.UniversityExhibitionDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UniversityExhibitionCacheTests {
+
+//    여러 지역에 걸친 결과도 ID 순서 유지
+    @Test
+    public void findByRegionOrderTest() {
+        UniversityExhibitionCache.Snapshot snapshot = UniversityExhibitionCache.Snapshot.of(List.of(
+                university(1L, "서울특별시"),
+                university(2L, "부산광역시"),
+                university(3L, "서울시"),
+                university(4L, "서울특별시"),
+                university(5L, "서울시")));
+
+        List<Long> ids = snapshot.findByRegion("서울").stream().map(UniversityExhibitionDTO::getId).toList();
+        assertEquals(List.of(1L, 3L, 4L, 5L), ids);
+    }
+
+    private UniversityExhibitionDTO university(Long id, String region) {
+        UniversityExhibitionDTO university = new UniversityExhibitionDTO();
+        university.setId(id);
+        university.setUniversityRegion(region);
+        return university;
+    }
+}
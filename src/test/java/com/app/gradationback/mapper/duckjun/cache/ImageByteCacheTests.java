@@ -0,0 +1,125 @@
+package com.app.gradationback.mapper.duckjun.cache;
+
+import com.app.gradationback.cache.ImageByteCache;
+import com.app.gradationback.storage.StoredFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 전체 1000 바이트, 항목 100 바이트 -> window 1개, main 9개
+public class ImageByteCacheTests {
+
+    private static final int ENTRY = 100;
+
+//    적중은 캐시된 값 그대로, 미스/적중 수 기록
+    @Test
+    public void hitTest() throws Exception {
+        ImageByteCache cache = new ImageByteCache(1000, ENTRY);
+
+        assertNull(cache.get("a"));
+        assertFalse(cache.shouldLoad("a", ENTRY));
+        assertNull(cache.get("a"));
+        assertTrue(cache.shouldLoad("a", ENTRY));
+        assertFalse(cache.shouldLoad("a", ENTRY + 1));
+
+        ImageByteCache.CachedImage loaded = load(cache, "a");
+        assertSame(loaded, cache.get("a"));
+
+        Map<String, Object> stats = cache.stats();
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(2L, stats.get("misses"));
+        assertEquals(1, stats.get("entries"));
+        assertEquals((long) ENTRY, stats.get("weightBytes"));
+    }
+
+//    window 에서 밀려난 항목이 main 의 LRU 항목보다 덜 쓰였으면 들어가지 못함
+    @Test
+    public void rejectTest() throws Exception {
+        ImageByteCache cache = new ImageByteCache(1000, ENTRY);
+        for (int i = 0; i < 9; i++) {
+            request(cache, "hot" + i, 3);
+            load(cache, "hot" + i);
+        }
+        request(cache, "cold", 1);
+        load(cache, "cold");
+        request(cache, "next", 1);
+        load(cache, "next");
+
+        Map<String, Object> stats = cache.stats();
+        assertEquals(1L, stats.get("rejections"));
+        assertEquals(0L, stats.get("evictions"));
+        assertNotNull(cache.get("hot0"));
+        assertNull(cache.get("cold"));
+    }
+
+//    자주 쓰인 항목은 main 의 덜 쓰인 LRU 항목을 밀어내고 들어감
+    @Test
+    public void admitTest() throws Exception {
+        ImageByteCache cache = new ImageByteCache(1000, ENTRY);
+        for (int i = 0; i < 9; i++) {
+            request(cache, "cold" + i, 1);
+            load(cache, "cold" + i);
+        }
+        request(cache, "hot", 5);
+        load(cache, "hot");
+        request(cache, "next", 1);
+        load(cache, "next");
+
+        assertEquals(1L, cache.stats().get("evictions"));
+        assertNull(cache.get("cold0"));
+        assertNotNull(cache.get("hot"));
+        assertNotNull(cache.get("next"));
+    }
+
+//    적중 기록(잠금 없이 버퍼에 모은 것)도 빈도와 LRU 순서에 반영
+    @Test
+    public void readBufferTest() throws Exception {
+        ImageByteCache cache = new ImageByteCache(1000, ENTRY);
+        for (int i = 0; i < 9; i++) {
+            request(cache, "cold" + i, 1);
+            load(cache, "cold" + i);
+        }
+//        cold0 을 자주 조회 -> 가장 최근 + 빈도 증가
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(cache.get("cold0"));
+        }
+        request(cache, "warm", 2);
+        load(cache, "warm");
+        request(cache, "next", 1);
+        load(cache, "next");
+
+//        warm 이 main 에 들어가면서 LRU 인 cold1 이 밀려남 (cold0 은 최근에 조회되어 유지)
+        assertNotNull(cache.get("cold0"));
+        assertNull(cache.get("cold1"));
+        assertNotNull(cache.get("warm"));
+    }
+
+//    삭제하면 조회되지 않고 무게도 줄어듦
+    @Test
+    public void invalidateTest() throws Exception {
+        ImageByteCache cache = new ImageByteCache(1000, ENTRY);
+        load(cache, "a");
+        load(cache, "b");
+
+        cache.invalidate("a");
+
+        assertNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+        assertEquals(1, cache.stats().get("entries"));
+        assertEquals((long) ENTRY, cache.stats().get("weightBytes"));
+    }
+
+    private void request(ImageByteCache cache, String key, int count) {
+        for (int i = 0; i < count; i++) {
+            cache.get(key);
+        }
+    }
+
+    private ImageByteCache.CachedImage load(ImageByteCache cache, String key) throws Exception {
+        byte[] data = new byte[ENTRY];
+        return cache.load(key, new StoredFile(data.length, 0L, new ByteArrayResource(data)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.app.gradationback.mapper.duckjun.storage;
+
+import com.app.gradationback.storage.LocalStorageService;
+import com.app.gradationback.storage.StoredFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 임시 폴더를 저장소 루트로 사용
+public class LocalStorageServiceTests {
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void writeReadTest() throws Exception {
+        LocalStorageService storage = new LocalStorageService(root.toString());
+        byte[] data = "hello".getBytes(StandardCharsets.UTF_8);
+
+        storage.write("C:/upload/qna/2025", "a.txt", new ByteArrayInputStream(data), data.length);
+
+        assertTrue(Files.exists(root.resolve("qna/2025/a.txt")));
+        try (InputStream in = storage.open("qna/2025", "a.txt")) {
+            assertArrayEquals(data, in.readAllBytes());
+        }
+        Optional<StoredFile> found = storage.find("qna/2025", "a.txt");
+        assertTrue(found.isPresent());
+        assertEquals(data.length, found.get().size());
+//        임시 파일은 남지 않음
+        assertEquals(1, storage.list("qna/2025").size());
+    }
+
+//    임시 파일을 옮겨 저장 -> 원본은 사라짐
+    @Test
+    public void storeTest() throws Exception {
+        LocalStorageService storage = new LocalStorageService(root.resolve("store").toString());
+        Path source = Files.writeString(root.resolve("source.tmp"), "blob");
+
+        storage.store("blobs/ab", "cd", source);
+
+        assertFalse(Files.exists(source));
+        assertEquals("blob", Files.readString(root.resolve("store/blobs/ab/cd")));
+        assertTrue(storage.list("blobs/ab").contains("cd"));
+    }
+
+    @Test
+    public void deleteTest() throws Exception {
+        LocalStorageService storage = new LocalStorageService(root.toString());
+        byte[] data = {1, 2, 3};
+        storage.write("art", "a.png", new ByteArrayInputStream(data), data.length);
+
+        storage.delete("art", "a.png");
+
+        assertFalse(storage.exists("art", "a.png"));
+        assertThrows(NoSuchFileException.class, () -> storage.open("art", "a.png"));
+//        없는 파일 삭제는 무시
+        storage.delete("art", "a.png");
+        assertTrue(storage.list("none").isEmpty());
+    }
+
+//    루트 밖으로 나가는 경로는 거절
+    @Test
+    public void traversalTest() {
+        LocalStorageService storage = new LocalStorageService(root.resolve("store").toString());
+        byte[] data = {1};
+        assertThrows(IllegalArgumentException.class,
+                () -> storage.write("../outside", "a.png", new ByteArrayInputStream(data), data.length));
+        assertThrows(IllegalArgumentException.class, () -> storage.find("art", "../../a.png"));
+        assertFalse(Files.exists(root.resolve("outside")));
+    }
+}
@@ -0,0 +1,122 @@
+package com.app.gradationback.mapper.duckjun.storage;
+
+import com.app.gradationback.storage.S3StorageService;
+import com.app.gradationback.storage.StoredFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// S3Client 를 mock 으로 대신해서 키, 버킷, 예외 변환 확인 (MinIO 없이 실행)
+public class S3StorageServiceTests {
+
+    private static final String BUCKET = "gradation-test";
+
+    @TempDir
+    Path temp;
+
+    private S3Client s3Client;
+    private S3StorageService storage;
+
+    @BeforeEach
+    public void setUp() {
+        s3Client = mock(S3Client.class);
+        storage = new S3StorageService(s3Client, BUCKET);
+    }
+
+//    예전 전체 경로도 루트 기준 키로 저장
+    @Test
+    public void writeTest() throws Exception {
+        byte[] data = {1, 2, 3};
+
+        storage.write("C:/upload/qna/2025", "a.png", new ByteArrayInputStream(data), data.length);
+
+        verify(s3Client).putObject(argThat((PutObjectRequest request) ->
+                BUCKET.equals(request.bucket()) && "qna/2025/a.png".equals(request.key())
+                        && Long.valueOf(3).equals(request.contentLength())), any(RequestBody.class));
+    }
+
+//    업로드 후 로컬 임시 파일 삭제, 업로드 실패 시에는 남겨둠
+    @Test
+    public void storeTest() throws Exception {
+        Path source = Files.writeString(temp.resolve("a.tmp"), "blob");
+        storage.store("blobs/ab", "cd", source);
+        assertFalse(Files.exists(source));
+
+        Path failed = Files.writeString(temp.resolve("b.tmp"), "blob");
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(500).message("error").build());
+        assertThrows(IOException.class, () -> storage.store("blobs/ab", "ef", failed));
+        assertTrue(Files.exists(failed));
+    }
+
+    @Test
+    public void findTest() throws Exception {
+        Instant lastModified = Instant.parse("2025-01-01T00:00:00Z");
+        when(s3Client.headObject(argThat((HeadObjectRequest request) -> "art/a.png".equals(request.key()))))
+                .thenReturn(HeadObjectResponse.builder().contentLength(10L).lastModified(lastModified).build());
+        when(s3Client.headObject(argThat((HeadObjectRequest request) -> "art/none.png".equals(request.key()))))
+                .thenThrow(S3Exception.builder().statusCode(404).message("not found").build());
+
+        Optional<StoredFile> found = storage.find("art", "a.png");
+        assertTrue(found.isPresent());
+        assertEquals(10L, found.get().size());
+        assertEquals(lastModified.toEpochMilli(), found.get().lastModified());
+
+        assertTrue(storage.find("art", "none.png").isEmpty());
+    }
+
+//    바로 아래 파일 이름만 반환
+    @Test
+    public void listTest() throws Exception {
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenAnswer(invocation -> new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+        when(s3Client.listObjectsV2(argThat((ListObjectsV2Request request) ->
+                BUCKET.equals(request.bucket()) && "blobs/ab/".equals(request.prefix()) && "/".equals(request.delimiter()))))
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(S3Object.builder().key("blobs/ab/cd").build(), S3Object.builder().key("blobs/ab/ef").build())
+                        .isTruncated(false)
+                        .build());
+
+        assertEquals(List.of("cd", "ef"), storage.list("blobs/ab"));
+    }
+
+    @Test
+    public void deleteTest() throws Exception {
+        storage.delete("art", "a.png");
+        verify(s3Client).deleteObject(argThat((DeleteObjectRequest request) ->
+                BUCKET.equals(request.bucket()) && "art/a.png".equals(request.key())));
+    }
+
+//    잘못된 경로는 S3 를 호출하기 전에 거절
+    @Test
+    public void traversalTest() {
+        byte[] data = {1};
+        assertThrows(IllegalArgumentException.class,
+                () -> storage.write("../outside", "a.png", new ByteArrayInputStream(data), data.length));
+        assertThrows(IllegalArgumentException.class, () -> storage.delete("art", "../a.png"));
+        verifyNoInteractions(s3Client);
+    }
+}
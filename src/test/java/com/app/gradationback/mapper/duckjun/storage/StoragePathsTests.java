@@ -0,0 +1,30 @@
+package com.app.gradationback.mapper.duckjun.storage;
+
+import com.app.gradationback.storage.StoragePaths;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StoragePathsTests {
+
+//    예전 전체 경로, 역슬래시, 빈 경로 -> 루트 기준 키
+    @Test
+    public void keyTest() {
+        assertEquals("qna/2025/a.png", StoragePaths.key("C:/upload/qna/2025", "a.png"));
+        assertEquals("qna/2025/a.png", StoragePaths.key("c:\\upload\\qna\\2025\\", "a.png"));
+        assertEquals("blobs/ab/a.png", StoragePaths.key("/blobs/./ab", "a.png"));
+        assertEquals("a.png", StoragePaths.key(null, "a.png"));
+    }
+
+//    상위 경로, 드라이브 경로, 이름에 경로가 섞이면 거절
+    @Test
+    public void traversalTest() {
+        assertThrows(IllegalArgumentException.class, () -> StoragePaths.key("qna/../../etc", "passwd"));
+        assertThrows(IllegalArgumentException.class, () -> StoragePaths.key("..", "a.png"));
+        assertThrows(IllegalArgumentException.class, () -> StoragePaths.key("D:/secret", "a.png"));
+        assertThrows(IllegalArgumentException.class, () -> StoragePaths.key("qna", "../a.png"));
+        assertThrows(IllegalArgumentException.class, () -> StoragePaths.key("qna", "..\\a.png"));
+        assertThrows(IllegalArgumentException.class, () -> StoragePaths.key("qna", ".."));
+        assertThrows(IllegalArgumentException.class, () -> StoragePaths.key("qna", " "));
+    }
+}
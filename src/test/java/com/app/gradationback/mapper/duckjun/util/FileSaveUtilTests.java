@@ -0,0 +1,193 @@
+package com.app.gradationback.mapper.duckjun.util;
+
+import com.app.gradationback.domain.UploadBlobVO;
+import com.app.gradationback.repository.UploadBlobDAO;
+import com.app.gradationback.storage.LocalStorageService;
+import com.app.gradationback.util.FileSaveUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 임시 폴더를 저장소로, UploadBlobDAO 는 mock (참조 수는 테스트마다 지정)
+public class FileSaveUtilTests {
+
+    @TempDir
+    Path root;
+
+    @TempDir
+    Path temp;
+
+    private UploadBlobDAO uploadBlobDAO;
+    private PlatformTransactionManager transactionManager;
+    private LocalStorageService storage;
+    private FileSaveUtil fileSaveUtil;
+
+    @BeforeEach
+    public void setUp() {
+        uploadBlobDAO = mock(UploadBlobDAO.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        storage = new LocalStorageService(root.toString());
+
+//        업로드 작업은 호출한 스레드에서 바로 실행
+        ThreadPoolTaskExecutor uploadExecutor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(uploadExecutor).execute(any(Runnable.class));
+
+        fileSaveUtil = new FileSaveUtil(uploadBlobDAO, storage, transactionManager, uploadExecutor, temp.toString());
+    }
+
+//    내용의 SHA-256 으로 경로, 파일명 결정
+    @Test
+    public void hashTest() throws Exception {
+        byte[] data = "gradation".getBytes(StandardCharsets.UTF_8);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        when(uploadBlobDAO.findRefCountForUpdate(anyString())).thenReturn(1);
+
+        UploadBlobVO blob = fileSaveUtil.fileSave(new MockMultipartFile("file", "A.PNG", "image/png", data));
+
+        assertEquals(hash, blob.getBlobHash());
+        assertEquals("blobs/" + hash.substring(0, 2) + "/" + hash.substring(2, 4), blob.getBlobPath());
+        assertEquals(hash + ".png", blob.getBlobName());
+        assertEquals((long) data.length, blob.getBlobSize());
+        assertFalse(blob.isDuplicated());
+        assertArrayEquals(data, Files.readAllBytes(root.resolve(blob.getBlobPath()).resolve(blob.getBlobName())));
+        verify(uploadBlobDAO).saveReference(blob);
+        verify(transactionManager).commit(any());
+//        임시 파일은 남지 않음
+        try (var files = Files.list(temp.resolve("gradation-upload"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+//    이미 참조 중인 파일이 있으면 저장하지 않음
+    @Test
+    public void duplicatedTest() throws Exception {
+        byte[] data = {1, 2, 3};
+        when(uploadBlobDAO.findRefCountForUpdate(anyString())).thenReturn(1, 2);
+
+        UploadBlobVO first = fileSaveUtil.fileSave(new MockMultipartFile("file", "a.jpg", "image/jpeg", data));
+        UploadBlobVO second = fileSaveUtil.fileSave(new MockMultipartFile("file", "b.jpg", "image/jpeg", data));
+
+        assertFalse(first.isDuplicated());
+        assertTrue(second.isDuplicated());
+        assertEquals(first.getBlobName(), second.getBlobName());
+        assertEquals(1, storage.list(first.getBlobPath()).size());
+    }
+
+//    새로 만들었거나 되살린 행(참조 수 1)이면 파일이 있어도 다시 저장 (다른 서버의 정리 작업이 지운 경우)
+    @Test
+    public void revivedTest() throws Exception {
+        byte[] data = {4, 5, 6};
+        when(uploadBlobDAO.findRefCountForUpdate(anyString())).thenReturn(1);
+        UploadBlobVO first = fileSaveUtil.fileSave(new MockMultipartFile("file", "a.jpg", "image/jpeg", data));
+        Files.write(root.resolve(first.getBlobPath()).resolve(first.getBlobName()), new byte[]{0});
+
+        UploadBlobVO second = fileSaveUtil.fileSave(new MockMultipartFile("file", "a.jpg", "image/jpeg", data));
+
+        assertFalse(second.isDuplicated());
+        assertArrayEquals(data, Files.readAllBytes(root.resolve(second.getBlobPath()).resolve(second.getBlobName())));
+    }
+
+//    등록하는 사이 행이 지워졌으면 다시 등록
+    @Test
+    public void rowDeletedTest() throws Exception {
+        when(uploadBlobDAO.findRefCountForUpdate(anyString())).thenReturn(null, 1);
+
+        UploadBlobVO blob = fileSaveUtil.fileSave(new MockMultipartFile("file", "a.png", "image/png", new byte[]{7}));
+
+        verify(uploadBlobDAO, times(2)).saveReference(blob);
+        assertTrue(storage.exists(blob.getBlobPath(), blob.getBlobName()));
+    }
+
+//    저장에 실패하면 참조 등록도 롤백
+    @Test
+    public void storeFailTest() throws Exception {
+        when(uploadBlobDAO.findRefCountForUpdate(anyString())).thenReturn(1);
+//        blobs 를 파일로 만들어 하위 폴더를 만들 수 없게 함
+        Files.write(root.resolve("blobs"), new byte[]{0});
+
+        assertThrows(IOException.class,
+                () -> fileSaveUtil.fileSave(new MockMultipartFile("file", "a.png", "image/png", new byte[]{8})));
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+//    하나라도 실패하면 저장한 파일의 참조 취소 후 예외
+    @Test
+    public void fileSaveAllReleaseTest() throws Exception {
+        when(uploadBlobDAO.findRefCountForUpdate(anyString())).thenReturn(1);
+        MultipartFile broken = mock(MultipartFile.class);
+        when(broken.getInputStream()).thenThrow(new IOException("읽기 실패"));
+        MockMultipartFile saved = new MockMultipartFile("file", "a.png", "image/png", new byte[]{9});
+
+        IOException e = assertThrows(IOException.class, () -> fileSaveUtil.fileSaveAll(List.of(saved, broken)));
+
+        assertEquals("읽기 실패", e.getMessage());
+        verify(uploadBlobDAO, times(1)).saveReference(any());
+        verify(uploadBlobDAO).releaseReference(argThat(name -> name.endsWith(".png")));
+    }
+
+//    결과는 요청한 파일 순서대로
+    @Test
+    public void fileSaveAllOrderTest() throws Exception {
+        when(uploadBlobDAO.findRefCountForUpdate(anyString())).thenReturn(1);
+
+        List<UploadBlobVO> blobs = fileSaveUtil.fileSaveAll(List.of(
+                new MockMultipartFile("file", "a.png", "image/png", new byte[]{1}),
+                new MockMultipartFile("file", "b.gif", "image/gif", new byte[]{2})));
+
+        assertEquals(2, blobs.size());
+        assertTrue(blobs.get(0).getBlobName().endsWith(".png"));
+        assertTrue(blobs.get(1).getBlobName().endsWith(".gif"));
+        verify(uploadBlobDAO, never()).releaseReference(anyString());
+    }
+
+//    참조 취소 실패는 로그만 남기고 나머지 계속
+    @Test
+    public void releaseTest() {
+        UploadBlobVO first = new UploadBlobVO();
+        first.setBlobName("a.png");
+        UploadBlobVO second = new UploadBlobVO();
+        second.setBlobName("b.png");
+        doThrow(new RuntimeException("DB 오류")).when(uploadBlobDAO).releaseReference("a.png");
+
+        fileSaveUtil.release(List.of(first, second));
+
+        verify(uploadBlobDAO).releaseReference("a.png");
+        verify(uploadBlobDAO).releaseReference("b.png");
+    }
+
+//    확장자는 영문/숫자만 유지
+    @Test
+    public void extensionTest() throws Exception {
+        when(uploadBlobDAO.findRefCountForUpdate(anyString())).thenReturn(1);
+
+        UploadBlobVO blob = fileSaveUtil.fileSave(new MockMultipartFile("file", "a.p/ng", "image/png", new byte[]{3}));
+
+        assertEquals(blob.getBlobHash(), blob.getBlobName());
+        try (InputStream in = storage.open(blob.getBlobPath(), blob.getBlobName())) {
+            assertArrayEquals(new byte[]{3}, in.readAllBytes());
+        }
+    }
+}
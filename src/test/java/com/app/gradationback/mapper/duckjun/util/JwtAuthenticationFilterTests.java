@@ -0,0 +1,105 @@
+package com.app.gradationback.mapper.duckjun.util;
+
+import com.app.gradationback.config.JwtAuthenticationFilter;
+import com.app.gradationback.domain.UserVO;
+import com.app.gradationback.service.UserService;
+import com.app.gradationback.util.AdminCheckUtil;
+import com.app.gradationback.util.JwtTokenUtil;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class JwtAuthenticationFilterTests {
+
+    private final JwtTokenUtil jwtTokenUtil = mock(JwtTokenUtil.class);
+    private final UserService userService = mock(UserService.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtTokenUtil, userService);
+    private final AdminCheckUtil adminCheckUtil = new AdminCheckUtil();
+
+    @AfterEach
+    public void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+//    관리자 토큰 -> ROLE_ADMIN 으로 인증, 컨트롤러에서 토큰을 다시 파싱하지 않아도 관리자 확인 가능
+    @Test
+    public void adminTokenTest() throws Exception {
+        UserVO admin = new UserVO();
+        admin.setId(1L);
+        admin.setUserAdminOk(true);
+        when(jwtTokenUtil.findClaims("admin-token"))
+                .thenReturn(Optional.of(Jwts.claims().add("identification", "admin").build()));
+        when(userService.getPrincipal("admin")).thenReturn(Optional.of(admin));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer admin-token");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertSame(admin, authentication.getPrincipal());
+        assertTrue(adminCheckUtil.isAdmin(request));
+//        세션을 만들지 않음
+        assertNull(request.getSession(false));
+    }
+
+//    잘못된 토큰 -> 익명으로 통과
+    @Test
+    public void invalidTokenTest() throws Exception {
+        when(jwtTokenUtil.findClaims("bad-token")).thenReturn(Optional.empty());
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer bad-token");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNotNull(chain.getRequest());
+        assertFalse(adminCheckUtil.isAdmin(request));
+        verifyNoInteractions(userService);
+    }
+
+//    영구정지 회원 -> 토큰이 유효해도 익명 (ROLE_USER 없음)
+    @Test
+    public void bannedUserTest() throws Exception {
+        UserVO banned = new UserVO();
+        banned.setId(2L);
+        banned.setUserBanOk(2);
+        when(jwtTokenUtil.findClaims("banned-token"))
+                .thenReturn(Optional.of(Jwts.claims().add("identification", "banned").build()));
+        when(userService.getPrincipal("banned")).thenReturn(Optional.of(banned));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer banned-token");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+//    댓글정지 회원은 그대로 인증 (댓글 작성에서만 막음)
+    @Test
+    public void commentBannedUserTest() throws Exception {
+        UserVO user = new UserVO();
+        user.setId(3L);
+        user.setUserBanOk(1);
+        when(jwtTokenUtil.findClaims("user-token"))
+                .thenReturn(Optional.of(Jwts.claims().add("identification", "user").build()));
+        when(userService.getPrincipal("user")).thenReturn(Optional.of(user));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer user-token");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertSame(user, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+}
@@ -0,0 +1,64 @@
+package com.app.gradationback.mapper.duckjun.util;
+
+import com.app.gradationback.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenUtilTests {
+
+    private static final byte[] KEY = "gradation-test-secret-key-0123456789".getBytes(StandardCharsets.UTF_8);
+    private static final String SECRET = Base64.getEncoder().encodeToString(KEY);
+
+    private final JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(SECRET, 100);
+
+//    한 번 검증한 토큰은 캐시된 클레임을 그대로 반환
+    @Test
+    public void parseCacheTest() {
+        String token = jwtTokenUtil.generateToken(Map.of(
+                "email", "user@test.app",
+                "name", "회원명",
+                "identification", "user1234"));
+
+        Claims first = jwtTokenUtil.parseToken(token);
+        Claims second = jwtTokenUtil.parseToken(token);
+
+        assertSame(first, second);
+        assertEquals("user1234", jwtTokenUtil.getIdentificationFromToken(token));
+    }
+
+//    서명이 다른 토큰은 캐시와 상관없이 거부
+    @Test
+    public void invalidTokenTest() {
+        String token = jwtTokenUtil.generateToken(Map.of("identification", "user1234"));
+        jwtTokenUtil.parseToken(token);
+
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+        assertFalse(jwtTokenUtil.isTokenValid(tampered));
+        assertFalse(jwtTokenUtil.isTokenValid("not-a-token"));
+    }
+
+//    만료된 토큰 -> 인증 필터용 조회는 예외 없이 empty, parseToken 은 기존처럼 예외
+    @Test
+    public void expiredTokenTest() {
+        String token = Jwts.builder()
+                .claims(Map.of("identification", "user1234"))
+                .expiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(KEY), Jwts.SIG.HS256)
+                .compact();
+
+        assertTrue(jwtTokenUtil.findClaims(token).isEmpty());
+        assertFalse(jwtTokenUtil.isTokenValid(token));
+        RuntimeException e = assertThrows(RuntimeException.class, () -> jwtTokenUtil.parseToken(token));
+        assertEquals("Expired JWT Token", e.getMessage());
+    }
+}
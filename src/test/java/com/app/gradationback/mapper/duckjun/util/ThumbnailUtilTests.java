@@ -0,0 +1,50 @@
+package com.app.gradationback.mapper.duckjun.util;
+
+import com.app.gradationback.storage.LocalStorageService;
+import com.app.gradationback.util.ThumbnailUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// 썸네일 기록 (다른 서버에서 만든 썸네일, 생성 전 조회)
+public class ThumbnailUtilTests {
+
+    @TempDir
+    Path root;
+
+//    생성 전에 조회해서 없었더라도 기록하지 않음 -> 생긴 뒤 바로 사용
+    @Test
+    public void emptyScanTest() throws Exception {
+        LocalStorageService storage = new LocalStorageService(root.toString());
+        ThumbnailUtil thumbnailUtil = new ThumbnailUtil(mock(ThreadPoolTaskExecutor.class), storage, new int[]{150, 300}, 100, 60);
+
+        assertEquals("a.png", thumbnailUtil.resolve("art", "a.png", 150));
+
+        write(storage, "w150_a.png");
+        assertEquals("w150_a.png", thumbnailUtil.resolve("art", "a.png", 150));
+    }
+
+//    일부만 있던 확인 기록은 만료 후 다시 확인
+    @Test
+    public void partialScanTest() throws Exception {
+        LocalStorageService storage = new LocalStorageService(root.toString());
+        ThumbnailUtil thumbnailUtil = new ThumbnailUtil(mock(ThreadPoolTaskExecutor.class), storage, new int[]{150, 300}, 100, 0);
+
+        write(storage, "w150_a.png");
+        assertEquals("a.png", thumbnailUtil.resolve("art", "a.png", 200));
+
+        write(storage, "w300_a.png");
+        assertEquals("w300_a.png", thumbnailUtil.resolve("art", "a.png", 200));
+    }
+
+    private void write(LocalStorageService storage, String name) throws Exception {
+        byte[] data = {1};
+        storage.write("art", name, new ByteArrayInputStream(data), data.length);
+    }
+}
@@ -0,0 +1,137 @@
+package com.app.gradationback.mapper.duckjun.util;
+
+import com.app.gradationback.cache.ImageByteCache;
+import com.app.gradationback.domain.UploadBlobVO;
+import com.app.gradationback.repository.UploadBlobDAO;
+import com.app.gradationback.storage.LocalStorageService;
+import com.app.gradationback.storage.StorageService;
+import com.app.gradationback.util.ThumbnailUtil;
+import com.app.gradationback.util.UploadBlobSweeper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 임시 폴더를 저장소로, UploadBlobDAO 는 mock
+public class UploadBlobSweeperTests {
+
+    private static final String PATH = "blobs/ab/cd";
+    private static final String NAME = "abcd.png";
+
+    @TempDir
+    Path root;
+
+    private UploadBlobDAO uploadBlobDAO;
+    private PlatformTransactionManager transactionManager;
+    private ThumbnailUtil thumbnailUtil;
+    private ImageByteCache imageByteCache;
+    private LocalStorageService storage;
+    private UploadBlobVO blob;
+
+    @BeforeEach
+    public void setUp() {
+        uploadBlobDAO = mock(UploadBlobDAO.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        thumbnailUtil = mock(ThumbnailUtil.class);
+        imageByteCache = mock(ImageByteCache.class);
+        storage = new LocalStorageService(root.toString());
+
+        blob = new UploadBlobVO();
+        blob.setBlobName(NAME);
+        blob.setBlobPath(PATH);
+        blob.setBlobRefCount(0);
+    }
+
+//    참조 수를 먼저 다시 계산한 뒤 유예 시간이 지난 파일 조회
+    @Test
+    public void recountTest() {
+        when(uploadBlobDAO.findUnreferenced(anyInt())).thenReturn(List.of());
+
+        sweeper(storage, 24).sweep();
+
+        InOrder inOrder = inOrder(uploadBlobDAO);
+        inOrder.verify(uploadBlobDAO).updateRefCount();
+        inOrder.verify(uploadBlobDAO).findUnreferenced(24);
+    }
+
+//    원본과 썸네일(w150_, t_)만 삭제, 같은 폴더의 다른 파일은 유지
+    @Test
+    public void deleteTest() throws Exception {
+        write(NAME);
+        write("w150_" + NAME);
+        write("t_" + NAME);
+        write("other.png");
+        when(uploadBlobDAO.findUnreferenced(anyInt())).thenReturn(List.of(blob));
+        when(uploadBlobDAO.findUnreferencedForUpdate(blob)).thenReturn(Optional.of(blob));
+        when(uploadBlobDAO.deleteUnreferenced(NAME)).thenReturn(1);
+
+        sweeper(storage, 24).sweep();
+
+        assertEquals(List.of("other.png"), storage.list(PATH));
+        verify(uploadBlobDAO).deleteUnreferenced(NAME);
+        verify(imageByteCache).invalidate(PATH + "/" + NAME);
+        verify(imageByteCache).invalidate(PATH + "/w150_" + NAME);
+        verify(thumbnailUtil).forget(PATH, NAME);
+        verify(transactionManager).commit(any());
+    }
+
+//    조회 후 다시 참조되었거나 업로드 중(잠김)이면 건너뜀
+    @Test
+    public void referencedAgainTest() throws Exception {
+        write(NAME);
+        when(uploadBlobDAO.findUnreferenced(anyInt())).thenReturn(List.of(blob));
+        when(uploadBlobDAO.findUnreferencedForUpdate(blob)).thenReturn(Optional.empty());
+
+        sweeper(storage, 24).sweep();
+
+        assertTrue(storage.exists(PATH, NAME));
+        verify(uploadBlobDAO, never()).deleteUnreferenced(anyString());
+        verify(thumbnailUtil, never()).forget(anyString(), anyString());
+    }
+
+//    파일 삭제에 실패하면 행 삭제도 롤백 (다음 정리에서 다시)
+    @Test
+    public void deleteFailTest() throws Exception {
+        StorageService failing = mock(StorageService.class);
+        when(failing.list(PATH)).thenThrow(new IOException("저장소 오류"));
+        when(uploadBlobDAO.findUnreferenced(anyInt())).thenReturn(List.of(blob));
+        when(uploadBlobDAO.findUnreferencedForUpdate(blob)).thenReturn(Optional.of(blob));
+
+        sweeper(failing, 24).sweep();
+
+        verify(uploadBlobDAO, never()).deleteUnreferenced(anyString());
+        verify(transactionManager).commit(argThat(TransactionStatus::isRollbackOnly));
+    }
+
+//    DB 오류가 나도 예외를 밖으로 던지지 않음 (다음 주기에 다시)
+    @Test
+    public void sweepFailTest() {
+        when(uploadBlobDAO.updateRefCount()).thenThrow(new RuntimeException("DB 오류"));
+
+        assertDoesNotThrow(() -> sweeper(storage, 24).sweep());
+        verify(uploadBlobDAO, never()).findUnreferenced(anyInt());
+    }
+
+    private UploadBlobSweeper sweeper(StorageService storageService, int graceHours) {
+        return new UploadBlobSweeper(uploadBlobDAO, storageService, thumbnailUtil, imageByteCache, transactionManager, graceHours);
+    }
+
+    private void write(String name) throws IOException {
+        byte[] data = {1};
+        storage.write(PATH, name, new ByteArrayInputStream(data), data.length);
+    }
+}
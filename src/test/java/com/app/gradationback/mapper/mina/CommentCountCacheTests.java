@@ -0,0 +1,42 @@
+package com.app.gradationback.mapper.mina;
+
+import com.app.gradationback.cache.CommentCountCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommentCountCacheTests {
+
+//    쓰기 전에 채운 값 -> 커밋 후 증감 반영
+    @Test
+    public void increaseTest() {
+        CommentCountCache cache = new CommentCountCache(300, 100);
+        assertEquals(3, cache.get(1L, () -> 3));
+
+        long writeVersion = cache.beginWrite();
+        cache.increase(1L, writeVersion);
+
+        assertEquals(4, cache.get(1L, () -> -1));
+    }
+
+//    커밋 후 ~ afterCommit 사이에 새 댓글까지 포함해서 읽은 값은 한 번 더 더하지 않음
+    @Test
+    public void loadBetweenCommitAndCallbackTest() {
+        CommentCountCache cache = new CommentCountCache(300, 100);
+
+        long writeVersion = cache.beginWrite();
+//        커밋된 값(4)을 afterCommit 전에 조회
+        assertEquals(4, cache.get(1L, () -> 4));
+        cache.increase(1L, writeVersion);
+
+        assertEquals(4, cache.get(1L, () -> 4));
+    }
+
+//    만료되면 다시 조회
+    @Test
+    public void expireTest() {
+        CommentCountCache cache = new CommentCountCache(0, 100);
+        assertEquals(3, cache.get(1L, () -> 3));
+        assertEquals(5, cache.get(1L, () -> 5));
+    }
+}
@@ -2,6 +2,7 @@ package com.app.gradationback.mapper.sehyun;
 
 import com.app.gradationback.domain.DeliveryDTO;
 import com.app.gradationback.domain.PaymentVO;
+import com.app.gradationback.domain.PurchaseHistoryDTO;
 import com.app.gradationback.mapper.PaymentMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @SpringBootTest
@@ -46,10 +49,21 @@ public class PaymentServiceTest {
     }
 
     @Test
-    public void selectByUserIdTest() {
-        List<DeliveryDTO> foundPayment = paymentMapper.selectByUserId(3L);
-        for(DeliveryDTO deliveryDTO : foundPayment) {
-            log.info("{}",deliveryDTO);
+    public void selectHistoryByUserIdTest() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", 3L);
+        params.put("size", 2);
+        List<PurchaseHistoryDTO> firstPage = paymentMapper.selectHistoryByUserId(params);
+        for(PurchaseHistoryDTO purchaseHistoryDTO : firstPage) {
+            log.info("{}",purchaseHistoryDTO);
+        }
+
+        if(!firstPage.isEmpty()) {
+            params.put("lastId", firstPage.get(firstPage.size() - 1).getId());
+            List<PurchaseHistoryDTO> nextPage = paymentMapper.selectHistoryByUserId(params);
+            for(PurchaseHistoryDTO purchaseHistoryDTO : nextPage) {
+                log.info("다음 페이지 : {}",purchaseHistoryDTO);
+            }
         }
     }
 
@@ -0,0 +1,130 @@
+package com.app.gradationback.mapper.sehyun.service;
+
+import com.app.gradationback.exception.PaymentResponseUnreadableException;
+import com.app.gradationback.payment.CircuitBreaker;
+import com.app.gradationback.payment.FakePaymentGatewayClient;
+import com.app.gradationback.payment.PaymentGatewayClient;
+import com.app.gradationback.payment.TossPaymentGatewayClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.client.UnknownHttpStatusCodeException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+public class PaymentGatewayClientTest {
+
+    @Test
+    public void fakeConfirmTest() {
+        PaymentGatewayClient client = new FakePaymentGatewayClient(new ObjectMapper(), 0);
+        Map<String, Object> paymentData = new HashMap<>();
+        paymentData.put("paymentKey", "test_payment_key");
+        paymentData.put("orderId", "order-1");
+        paymentData.put("amount", 250000);
+
+        JsonNode response = client.confirm(paymentData);
+        log.info("response : {}", response);
+        assertEquals("order-1", response.path("orderId").asText());
+        assertEquals(250000L, response.path("card").path("amount").asLong());
+    }
+
+//    가짜 결제 API 로 동시 요청 처리량 확인
+    @Test
+    public void fakeThroughputTest() throws InterruptedException {
+        PaymentGatewayClient client = new FakePaymentGatewayClient(new ObjectMapper(), 5);
+        int requests = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            Map<String, Object> paymentData = new HashMap<>();
+            paymentData.put("orderId", "order-" + i);
+            paymentData.put("amount", 1000);
+            executor.execute(() -> client.confirm(paymentData));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        log.info("{}건 {}ms, stats : {}", requests, elapsedMillis, client.stats());
+        assertEquals((long) requests, client.stats().get("calls"));
+    }
+
+    @Test
+    public void circuitBreakerTest() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(2, 100);
+        circuitBreaker.onFailure();
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+
+        Thread.sleep(150);
+//        시험 호출은 한 건만
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+        circuitBreaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+//    재시도 대상이 아닌 예외로 끝나도 HALF_OPEN 시험 호출 자리를 돌려줌
+    @Test
+    public void halfOpenReleaseTest() throws InterruptedException {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new IllegalStateException("unexpected"));
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 50);
+        TossPaymentGatewayClient client = new TossPaymentGatewayClient(restTemplate, new ObjectMapper(),
+                "http://localhost/confirm", "test_key", 0, 1, circuitBreaker);
+
+        circuitBreaker.onFailure();
+        Thread.sleep(80);
+        assertThrows(IllegalStateException.class, () -> client.confirm(new HashMap<>(Map.of("orderId", "order-1"))));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+
+        Thread.sleep(80);
+        assertTrue(circuitBreaker.tryAcquire());
+    }
+
+//    알 수 없는 상태 코드는 재시도 후 결제 서버 오류로 처리
+    @Test
+    public void unknownStatusTest() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+                .thenThrow(new UnknownHttpStatusCodeException(599, "unknown", null, null, null));
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 10000);
+        TossPaymentGatewayClient client = new TossPaymentGatewayClient(restTemplate, new ObjectMapper(),
+                "http://localhost/confirm", "test_key", 1, 1, circuitBreaker);
+
+        assertThrows(RuntimeException.class, () -> client.confirm(new HashMap<>(Map.of("orderId", "order-1"))));
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+//    2xx 빈 응답은 거절과 구분 (재시도하지 않고, 결제 서버는 정상)
+    @Test
+    public void emptyBodyTest() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(ResponseEntity.ok().build());
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 10000);
+        TossPaymentGatewayClient client = new TossPaymentGatewayClient(restTemplate, new ObjectMapper(),
+                "http://localhost/confirm", "test_key", 0, 1, circuitBreaker);
+
+        assertThrows(PaymentResponseUnreadableException.class, () -> client.confirm(new HashMap<>(Map.of("orderId", "order-1"))));
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+}
@@ -0,0 +1,157 @@
+package com.app.gradationback.mapper.sehyun.service;
+
+import com.app.gradationback.domain.PaymentOutboxVO;
+import com.app.gradationback.exception.PaymentGatewayUnavailableException;
+import com.app.gradationback.exception.PaymentResponseUnreadableException;
+import com.app.gradationback.payment.FakePaymentGatewayClient;
+import com.app.gradationback.payment.PaymentGatewayClient;
+import com.app.gradationback.payment.PaymentOutboxWorker;
+import com.app.gradationback.repository.PaymentDAO;
+import com.app.gradationback.service.PaymentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// DB 없이 결제 아웃박스 처리 흐름 확인 (가짜 결제 API 사용)
+@Slf4j
+public class PaymentOutboxWorkerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PaymentDAO paymentDAO;
+    private PaymentService paymentService;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    public void setUp() {
+        paymentDAO = mock(PaymentDAO.class);
+        paymentService = mock(PaymentService.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private PaymentOutboxVO outbox(int attempt) throws Exception {
+        PaymentOutboxVO paymentOutboxVO = new PaymentOutboxVO();
+        paymentOutboxVO.setId(1L);
+        paymentOutboxVO.setAuctionId(1L);
+        paymentOutboxVO.setOrderId("order-1");
+        paymentOutboxVO.setOutboxStatus("PROCESSING");
+        paymentOutboxVO.setOutboxAttempt(attempt);
+        paymentOutboxVO.setPaymentData(objectMapper.writeValueAsString(Map.of(
+                "orderId", "order-1", "paymentKey", "test_payment_key", "amount", 250000, "auctionId", 1)));
+        return paymentOutboxVO;
+    }
+
+    private PaymentOutboxWorker worker(PaymentGatewayClient client, int maxAttempts) {
+        return new PaymentOutboxWorker(paymentDAO, paymentService, client, objectMapper, executor, maxAttempts, 10, 120);
+    }
+
+    @Test
+    public void completeTest() throws Exception {
+        when(paymentDAO.claimOutbox(1L, 120)).thenReturn(true);
+        when(paymentDAO.findOutbox(1L)).thenReturn(Optional.of(outbox(1)));
+
+        worker(new FakePaymentGatewayClient(objectMapper, 0), 5).dispatch(1L).get(5, TimeUnit.SECONDS);
+
+        verify(paymentService).completePayment(eq(1L), anyMap(), argThat(node -> "order-1".equals(node.path("orderId").asText())));
+        verify(paymentDAO, never()).updateOutboxRetry(anyLong(), anyString(), anyInt());
+    }
+
+//    이미 다른 곳에서 처리 중이면 결제 API 를 호출하지 않음
+    @Test
+    public void claimedTest() {
+        PaymentGatewayClient client = mock(PaymentGatewayClient.class);
+        when(paymentDAO.claimOutbox(1L, 120)).thenReturn(false);
+
+        worker(client, 5).process(1L);
+
+        verifyNoInteractions(client, paymentService);
+    }
+
+    @Test
+    public void retryTest() throws Exception {
+        PaymentGatewayClient client = mock(PaymentGatewayClient.class);
+        when(client.confirm(anyMap())).thenThrow(new PaymentGatewayUnavailableException("결제 서버 오류"));
+        when(paymentDAO.claimOutbox(1L, 120)).thenReturn(true);
+        when(paymentDAO.findOutbox(1L)).thenReturn(Optional.of(outbox(2)));
+
+        worker(client, 5).process(1L);
+
+//        2번째 시도 실패 -> 20초 후 다시 시도
+        verify(paymentDAO).updateOutboxRetry(eq(1L), anyString(), eq(20));
+        verify(paymentService, never()).completePayment(anyLong(), anyMap(), any());
+    }
+
+    @Test
+    public void failTest() throws Exception {
+        PaymentGatewayClient client = mock(PaymentGatewayClient.class);
+        when(client.confirm(anyMap())).thenThrow(new PaymentGatewayUnavailableException("결제 서버 오류"));
+        when(paymentDAO.claimOutbox(1L, 120)).thenReturn(true);
+        when(paymentDAO.findOutbox(1L)).thenReturn(Optional.of(outbox(5)));
+
+        worker(client, 5).process(1L);
+
+        verify(paymentDAO).updateOutboxFailed(eq(1L), anyString());
+        verify(paymentDAO, never()).updateOutboxRetry(anyLong(), anyString(), anyInt());
+    }
+
+//    2xx 응답을 읽을 수 없으면 이미 결제되었을 수 있으므로 실패가 아닌 REVIEW
+    @Test
+    public void unreadableResponseTest() throws Exception {
+        PaymentGatewayClient client = mock(PaymentGatewayClient.class);
+        when(client.confirm(anyMap())).thenThrow(new PaymentResponseUnreadableException("결제 승인 응답 없음"));
+        when(paymentDAO.claimOutbox(1L, 120)).thenReturn(true);
+        when(paymentDAO.findOutbox(1L)).thenReturn(Optional.of(outbox(1)));
+
+        worker(client, 5).process(1L);
+
+        verify(paymentDAO).updateOutboxReview(eq(1L), anyString());
+        verify(paymentDAO, never()).updateOutboxFailed(anyLong(), anyString());
+        verify(paymentDAO, never()).updateOutboxRetry(anyLong(), anyString(), anyInt());
+        verify(paymentService, never()).completePayment(anyLong(), anyMap(), any());
+    }
+
+//    승인 후 등록이 계속 실패 -> 횟수를 넘기면 REVIEW 로 멈춤
+    @Test
+    public void registerFailTest() throws Exception {
+        when(paymentDAO.claimOutbox(1L, 120)).thenReturn(true);
+        when(paymentDAO.findOutbox(1L)).thenReturn(Optional.of(outbox(2)), Optional.of(outbox(5)));
+        when(paymentService.completePayment(anyLong(), anyMap(), any())).thenThrow(new NullPointerException("deliveryAddress"));
+        PaymentOutboxWorker worker = worker(new FakePaymentGatewayClient(objectMapper, 0), 5);
+
+        worker.process(1L);
+        verify(paymentDAO).updateOutboxRetry(eq(1L), anyString(), eq(20));
+
+        worker.process(1L);
+        verify(paymentDAO).updateOutboxReview(eq(1L), anyString());
+        verify(paymentDAO, never()).updateOutboxFailed(anyLong(), anyString());
+    }
+
+//    횟수를 넘긴 요청은 결제 API 를 다시 호출하지 않음
+    @Test
+    public void exceededTest() throws Exception {
+        PaymentGatewayClient client = mock(PaymentGatewayClient.class);
+        when(paymentDAO.claimOutbox(1L, 120)).thenReturn(true);
+        when(paymentDAO.findOutbox(1L)).thenReturn(Optional.of(outbox(6)));
+
+        worker(client, 5).process(1L);
+
+        verify(paymentDAO).updateOutboxReview(eq(1L), anyString());
+        verifyNoInteractions(client, paymentService);
+    }
+}
@@ -0,0 +1,97 @@
+package com.app.gradationback.mapper.seungmin;
+
+import com.app.gradationback.mail.EmailDispatcher;
+import com.app.gradationback.mail.EmailMessage;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// SMTP 서버 없이 이메일 발송 대기열 확인 (JavaMailSender 목 사용)
+@Slf4j
+public class EmailDispatcherTest {
+
+    private JavaMailSender mailSender;
+
+    @BeforeEach
+    public void setUp() {
+        mailSender = mock(JavaMailSender.class);
+        Session session = Session.getInstance(new Properties());
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage(session));
+    }
+
+    private void waitFor(EmailDispatcher dispatcher, String key, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((long) dispatcher.stats().get(key) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+//    한 번의 send 호출(SMTP 연결 1개)로 여러 건 발송
+    @Test
+    public void batchTest() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch enqueued = new CountDownLatch(1);
+//        첫 발송은 모두 대기열에 들어갈 때까지 지연 -> 이후에는 20건씩 묶여서 발송
+        doAnswer(invocation -> {
+            calls.incrementAndGet();
+            enqueued.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        try (EmailDispatcher dispatcher = new EmailDispatcher(mailSender, 1, 100, 20, 3, 10)) {
+            for (int i = 0; i < 50; i++) {
+                assertTrue(dispatcher.enqueue(new EmailMessage("user" + i + "@test.app", "제목", "내용")));
+            }
+            enqueued.countDown();
+            waitFor(dispatcher, "sent", 50);
+            log.info("send 호출 {}번, stats : {}", calls.get(), dispatcher.stats());
+            assertEquals(50L, dispatcher.stats().get("sent"));
+            assertTrue(calls.get() <= 4);
+        }
+    }
+
+    @Test
+    public void retryTest() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new MailSendException("SMTP 연결 실패");
+            }
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        try (EmailDispatcher dispatcher = new EmailDispatcher(mailSender, 1, 100, 20, 3, 10)) {
+            dispatcher.enqueue(new EmailMessage("user@test.app", "제목", "내용"));
+            waitFor(dispatcher, "sent", 1);
+            log.info("stats : {}", dispatcher.stats());
+            assertEquals(1L, dispatcher.stats().get("sent"));
+            assertEquals(1L, dispatcher.stats().get("retried"));
+        }
+    }
+
+    @Test
+    public void giveUpTest() throws InterruptedException {
+        doThrow(new MailSendException("SMTP 연결 실패")).when(mailSender).send(any(MimeMessage[].class));
+
+        try (EmailDispatcher dispatcher = new EmailDispatcher(mailSender, 1, 100, 20, 3, 10)) {
+            dispatcher.enqueue(new EmailMessage("user@test.app", "제목", "내용"));
+            waitFor(dispatcher, "failed", 1);
+            log.info("stats : {}", dispatcher.stats());
+            assertEquals(1L, dispatcher.stats().get("failed"));
+            assertEquals(2L, dispatcher.stats().get("retried"));
+        }
+    }
+}
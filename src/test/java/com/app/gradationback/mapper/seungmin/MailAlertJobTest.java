@@ -0,0 +1,133 @@
+package com.app.gradationback.mapper.seungmin;
+
+import com.app.gradationback.cache.UnreadMailCounter;
+import com.app.gradationback.domain.MailAlertJobVO;
+import com.app.gradationback.repository.MailDAO;
+import com.app.gradationback.service.MailServiceImpl;
+import com.app.gradationback.util.MailAlertEmitters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 대상이 많은 알림 일괄 등록 (작업 저장 -> 나눠서 등록), MailDAO 는 mock, 대상 2명씩 등록
+public class MailAlertJobTest {
+
+    private MailDAO mailDAO;
+    private PlatformTransactionManager transactionManager;
+    private ThreadPoolTaskExecutor alertExecutor;
+    private MailServiceImpl mailService;
+
+    @BeforeEach
+    public void setUp() {
+        mailDAO = mock(MailDAO.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+//        작업은 호출한 스레드에서 바로 실행
+        alertExecutor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(alertExecutor).execute(any(Runnable.class));
+
+        doAnswer(invocation -> {
+            ((MailAlertJobVO) invocation.getArgument(0)).setId(1L);
+            return null;
+        }).when(mailDAO).saveAlertJob(any());
+        when(mailDAO.claimAlertJob(eq(1L), anyInt())).thenReturn(true);
+        when(mailDAO.updateAlertJobProgress(eq(1L), anyInt(), anyInt())).thenReturn(true);
+
+        mailService = new MailServiceImpl(mailDAO, new UnreadMailCounter(60, 100), mock(MailAlertEmitters.class),
+                transactionManager, alertExecutor, 2, 5, 300);
+    }
+
+//    작업으로 저장한 뒤 나눠서 등록, 구간마다 진행 상황 저장
+    @Test
+    public void registerTest() {
+        when(mailDAO.findAlertJob(1L)).thenReturn(Optional.of(job(0, 1)));
+
+        assertEquals(5, mailService.registerAlerts(List.of(1L, 2L, 3L, 3L, 4L, 5L), "제목", "내용"));
+
+        verify(mailDAO).saveAlertJob(argThat(job -> "1,2,3,4,5".equals(job.getReceiveUserIds())));
+        InOrder inOrder = inOrder(mailDAO);
+        inOrder.verify(mailDAO).updateAlertJobProgress(1L, 0, 2);
+        inOrder.verify(mailDAO).updateAlertJobProgress(1L, 2, 4);
+        inOrder.verify(mailDAO).updateAlertJobProgress(1L, 4, 5);
+        inOrder.verify(mailDAO).updateAlertJobDone(1L);
+        verify(mailDAO, times(3)).saveAlerts(anyMap());
+    }
+
+//    대기열이 가득 차도 작업은 남아 있음 (스케줄러가 처리)
+    @Test
+    public void rejectedTest() {
+        doThrow(new TaskRejectedException("가득 참")).when(alertExecutor).execute(any(Runnable.class));
+
+        assertEquals(5, mailService.registerAlerts(List.of(1L, 2L, 3L, 4L, 5L), "제목", "내용"));
+
+        verify(mailDAO).saveAlertJob(any());
+        verify(mailDAO, never()).claimAlertJob(anyLong(), anyInt());
+    }
+
+//    중간에 멈춘 작업은 등록을 마친 대상 다음부터
+    @Test
+    public void resumeTest() {
+        when(mailDAO.findAlertJobIdsToProcess(anyInt())).thenReturn(List.of(1L));
+        when(mailDAO.findAlertJob(1L)).thenReturn(Optional.of(job(2, 2)));
+
+        mailService.processAlertJobs();
+
+        verify(mailDAO, never()).updateAlertJobProgress(1L, 0, 2);
+        verify(mailDAO).updateAlertJobProgress(1L, 2, 4);
+        verify(mailDAO).updateAlertJobProgress(1L, 4, 5);
+        verify(mailDAO, times(2)).saveAlerts(anyMap());
+        verify(mailDAO).updateAlertJobDone(1L);
+    }
+
+//    등록 실패 -> 해당 구간 롤백, 다음 주기에 다시
+    @Test
+    public void chunkFailTest() {
+        when(mailDAO.findAlertJob(1L)).thenReturn(Optional.of(job(0, 1)));
+        when(mailDAO.saveAlerts(anyMap())).thenReturn(2).thenThrow(new RuntimeException("DB 오류"));
+
+        mailService.registerAlerts(List.of(1L, 2L, 3L, 4L, 5L), "제목", "내용");
+
+        verify(transactionManager).rollback(any());
+        verify(mailDAO).updateAlertJobRetry(eq(1L), anyString());
+        verify(mailDAO, never()).updateAlertJobDone(anyLong());
+    }
+
+//    시도 횟수를 넘긴 작업은 실패 처리
+    @Test
+    public void exceededTest() {
+        when(mailDAO.findAlertJobIdsToProcess(anyInt())).thenReturn(List.of(1L));
+        when(mailDAO.findAlertJob(1L)).thenReturn(Optional.of(job(2, 6)));
+
+        mailService.processAlertJobs();
+
+        verify(mailDAO).updateAlertJobFailed(eq(1L), anyString());
+        verify(mailDAO, never()).saveAlerts(anyMap());
+    }
+
+    private MailAlertJobVO job(int doneCount, int attempt) {
+        MailAlertJobVO mailAlertJobVO = new MailAlertJobVO();
+        mailAlertJobVO.setId(1L);
+        mailAlertJobVO.setMailTitle("제목");
+        mailAlertJobVO.setMailContent("내용");
+        mailAlertJobVO.setReceiveUserIds("1,2,3,4,5");
+        mailAlertJobVO.setJobStatus("PROCESSING");
+        mailAlertJobVO.setJobDoneCount(doneCount);
+        mailAlertJobVO.setJobAttempt(attempt);
+        return mailAlertJobVO;
+    }
+}
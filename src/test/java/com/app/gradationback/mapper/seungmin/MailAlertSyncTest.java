@@ -0,0 +1,91 @@
+package com.app.gradationback.mapper.seungmin;
+
+import com.app.gradationback.cache.UnreadMailCounter;
+import com.app.gradationback.domain.MailDTO;
+import com.app.gradationback.repository.MailDAO;
+import com.app.gradationback.util.MailAlertEmitters;
+import com.app.gradationback.util.MailAlertSync;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 다른 서버에서 바뀐 알림 수를 DB 에서 다시 세어 전송
+public class MailAlertSyncTest {
+
+    private MailDAO mailDAO;
+    private MailAlertEmitters mailAlertEmitters;
+    private UnreadMailCounter unreadMailCounter;
+    private MailAlertSync mailAlertSync;
+
+    @BeforeEach
+    public void setUp() {
+        mailDAO = mock(MailDAO.class);
+        mailAlertEmitters = mock(MailAlertEmitters.class);
+        unreadMailCounter = new UnreadMailCounter(60, 100);
+        mailAlertSync = new MailAlertSync(mailDAO, unreadMailCounter, mailAlertEmitters, 500);
+    }
+
+//    보낸 값과 다르면 전송하고 메모리 카운터는 비움, 같으면 보내지 않음
+    @Test
+    public void changedTest() {
+        when(mailAlertEmitters.subscribedUserIds()).thenReturn(List.of(1L, 2L));
+        when(mailAlertEmitters.lastCount(1L)).thenReturn(2);
+        when(mailAlertEmitters.lastCount(2L)).thenReturn(4);
+        when(mailDAO.findNotReadCounts(List.of(1L, 2L))).thenReturn(List.of(count(1L, 3), count(2L, 4)));
+        unreadMailCounter.get(1L, () -> 2);
+
+        mailAlertSync.sync();
+
+        verify(mailAlertEmitters).send(1L, 3);
+        verify(mailAlertEmitters, never()).send(eq(2L), anyInt());
+        assertEquals(3, unreadMailCounter.get(1L, () -> 3));
+    }
+
+//    결과에 없는 회원은 0개
+    @Test
+    public void zeroTest() {
+        when(mailAlertEmitters.subscribedUserIds()).thenReturn(List.of(1L));
+        when(mailAlertEmitters.lastCount(1L)).thenReturn(1);
+        when(mailDAO.findNotReadCounts(List.of(1L))).thenReturn(List.of());
+
+        mailAlertSync.sync();
+
+        verify(mailAlertEmitters).send(1L, 0);
+    }
+
+//    세는 사이 이 서버에서 쓰기가 있었으면 보내지 않음 (다음 주기에 다시)
+    @Test
+    public void writeDuringSyncTest() {
+        when(mailAlertEmitters.subscribedUserIds()).thenReturn(List.of(1L));
+        when(mailAlertEmitters.lastCount(1L)).thenReturn(2);
+        when(mailDAO.findNotReadCounts(List.of(1L))).thenAnswer(invocation -> {
+            unreadMailCounter.beginWrite();
+            return List.of(count(1L, 3));
+        });
+
+        mailAlertSync.sync();
+
+        verify(mailAlertEmitters, never()).send(anyLong(), anyInt());
+    }
+
+//    조회 실패는 밖으로 던지지 않음
+    @Test
+    public void failTest() {
+        when(mailAlertEmitters.subscribedUserIds()).thenReturn(List.of(1L));
+        when(mailDAO.findNotReadCounts(anyList())).thenThrow(new RuntimeException("DB 오류"));
+
+        assertDoesNotThrow(() -> mailAlertSync.sync());
+    }
+
+    private MailDTO count(Long receiveUserId, int notReadCount) {
+        MailDTO mailDTO = new MailDTO();
+        mailDTO.setReceiveUserId(receiveUserId);
+        mailDTO.setNotReadCount(notReadCount);
+        return mailDTO;
+    }
+}
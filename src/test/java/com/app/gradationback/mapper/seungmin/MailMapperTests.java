@@ -9,7 +9,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @SpringBootTest
@@ -25,7 +27,7 @@ public class MailMapperTests {
     // MailDTO 객체 생성 및 이메일 설정
         MailDTO mailDTO = new MailDTO();
         mailDTO.setReceiveUserEmail("minsuyang@daum.net");
-        Optional<MailDTO> receiveUserId = mailMapper.findByIdForEmail(mailDTO.getReceiveUserEmail());
+        Optional<Long> receiveUserId = mailMapper.findByIdForEmail(mailDTO.getReceiveUserEmail());
         log.info("해당유저 id: {}", receiveUserId);
     }
 
@@ -37,25 +39,41 @@ public class MailMapperTests {
         mailDTO.setMailContent("반갑습니다잉");
         mailDTO.setSendUserId(2L);
         mailDTO.setReceiveUserEmail("minsuyang@daum.net");
+        mailDTO.setReceiveUserId(mailMapper.findByIdForEmail(mailDTO.getReceiveUserEmail()).orElse(null));
         mailMapper.insert(mailDTO);
+        log.info("등록된 쪽지 id: {}", mailDTO.getId());
     }
 
 //      쪽지 수신함
     @Test
     public void selectReceivedTest() {
-        List<MailDTO> receivedList = mailMapper.selectReceived(2L);
+        Map<String, Object> params = new HashMap<>();
+        params.put("receiveUserId", 2L);
+        params.put("size", 10);
+        List<MailDTO> receivedList = mailMapper.selectReceived(params);
         for (MailDTO mail : receivedList) {
             log.info("제목: {}, 이름: {}, 작성일: {}",
                     mail.getMailTitle(),
                     mail.getSendUserName(),
                     mail.getMailSendTime());
         }
+
+//        다음 페이지
+        if (!receivedList.isEmpty()) {
+            params.put("lastId", receivedList.get(receivedList.size() - 1).getId());
+            for (MailDTO mail : mailMapper.selectReceived(params)) {
+                log.info("다음 페이지 제목: {}, 작성일: {}", mail.getMailTitle(), mail.getMailSendTime());
+            }
+        }
     }
 
 //      보낸 쪽지함
     @Test
     public void selectSendedTest() {
-        List<MailDTO> sendedList = mailMapper.selectSended(2L);
+        Map<String, Object> params = new HashMap<>();
+        params.put("sendUserId", 2L);
+        params.put("size", 10);
+        List<MailDTO> sendedList = mailMapper.selectSended(params);
         for (MailDTO mail : sendedList) {
             log.info("제목: {}, 이름: {}, 작성일: {}",
                     mail.getMailTitle(),
@@ -113,7 +131,10 @@ public class MailMapperTests {
 
     @Test
     public void selectAlertTest() {
-        List<MailDTO> receivedList = mailMapper.selectAlert(12L);
+        Map<String, Object> params = new HashMap<>();
+        params.put("receiveUserId", 12L);
+        params.put("size", 10);
+        List<MailDTO> receivedList = mailMapper.selectAlert(params);
         for (MailDTO mail : receivedList) {
             log.info("제목: {}, 발신인: {}, 작성일: {}",
                     mail.getMailTitle(),
@@ -122,6 +143,16 @@ public class MailMapperTests {
         }
     }
 
+//    알림 일괄 등록
+    @Test
+    public void insertAlertAllTest() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("receiveUserIds", List.of(2L, 5L, 12L));
+        params.put("mailTitle", "알림");
+        params.put("mailContent", "일괄 등록 알림입니다.");
+        log.info("등록된 알림 수: {}", mailMapper.insertAlertAll(params));
+    }
+
     @Test
     public void selectAlertDetailTest() {
         MailDTO mailDTO = new MailDTO();
@@ -142,7 +173,7 @@ public class MailMapperTests {
 
     @Test
     public void readUpdateTest() {
-        mailMapper.readUpdate(43L, 12L);
+        log.info("읽음처리 된 쪽지 수: {}", mailMapper.readUpdate(43L, 12L));
     }
 
     @Test
@@ -0,0 +1,40 @@
+package com.app.gradationback.mapper.seungmin;
+
+import com.app.gradationback.cache.UnreadMailCounter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnreadMailCounterTest {
+
+//    쓰기 전에 채운 값 -> 커밋 후 증감 반영
+    @Test
+    public void increaseTest() {
+        UnreadMailCounter counter = new UnreadMailCounter(60, 100);
+        assertEquals(2, counter.get(1L, () -> 2));
+
+        long writeVersion = counter.beginWrite();
+        assertEquals(3, counter.increase(1L, writeVersion));
+        assertEquals(3, counter.get(1L, () -> -1));
+    }
+
+//    커밋 후 ~ afterCommit 사이에 읽은 값은 한 번 더 더하지 않고 다시 조회
+    @Test
+    public void loadBetweenCommitAndCallbackTest() {
+        UnreadMailCounter counter = new UnreadMailCounter(60, 100);
+
+        long writeVersion = counter.beginWrite();
+        assertEquals(3, counter.get(1L, () -> 3));
+        assertNull(counter.increase(1L, writeVersion));
+
+        assertEquals(3, counter.get(1L, () -> 3));
+    }
+
+//    만료되면 DB 값으로 다시 맞춤
+    @Test
+    public void expireTest() {
+        UnreadMailCounter counter = new UnreadMailCounter(0, 100);
+        assertEquals(5, counter.get(1L, () -> 5));
+        assertEquals(1, counter.get(1L, () -> 1));
+    }
+}
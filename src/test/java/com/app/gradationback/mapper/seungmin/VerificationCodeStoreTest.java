@@ -0,0 +1,71 @@
+package com.app.gradationback.mapper.seungmin;
+
+import com.app.gradationback.cache.VerificationCodeStore;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VerificationCodeStoreTest {
+
+//    이메일별로 따로 저장 -> 동시에 가입해도 서로 덮어쓰지 않음
+    @Test
+    public void verifyTest() {
+        VerificationCodeStore store = new VerificationCodeStore(300, 5, 100, 0);
+        store.put("a@test.app", "111111");
+        store.put("B@test.app", "222222");
+
+        assertFalse(store.verify("a@test.app", "222222"));
+        assertTrue(store.verify("a@test.app", "111111"));
+        assertTrue(store.verify("b@test.app", "222222"));
+//        한 번 사용한 코드는 다시 사용 불가
+        assertFalse(store.verify("a@test.app", "111111"));
+    }
+
+    @Test
+    public void attemptTest() {
+        VerificationCodeStore store = new VerificationCodeStore(300, 3, 100, 0);
+        store.put("a@test.app", "111111");
+        for (int i = 0; i < 3; i++) {
+            assertFalse(store.verify("a@test.app", "000000"));
+        }
+        assertFalse(store.verify("a@test.app", "111111"));
+    }
+
+    @Test
+    public void expireTest() throws InterruptedException {
+        VerificationCodeStore store = new VerificationCodeStore(0, 5, 2, 0);
+        store.put("a@test.app", "111111");
+        store.put("b@test.app", "222222");
+        Thread.sleep(5);
+//        가득 차면 만료된 코드를 먼저 정리하고 저장
+        assertTrue(store.put("c@test.app", "333333"));
+        assertEquals(1, store.size());
+        assertFalse(store.verify("a@test.app", "111111"));
+    }
+
+//    가득 차면 새 코드를 거절하지 않고 가장 먼저 발급한 코드를 버림
+    @Test
+    public void boundedTest() {
+        VerificationCodeStore store = new VerificationCodeStore(300, 5, 2, 0);
+        assertTrue(store.put("a@test.app", "111111"));
+        assertTrue(store.put("b@test.app", "222222"));
+        assertTrue(store.put("c@test.app", "333333"));
+        assertEquals(2, store.size());
+        assertFalse(store.verify("a@test.app", "111111"));
+        assertTrue(store.verify("c@test.app", "333333"));
+//        이미 있는 이메일은 새 코드로 교체 (개수 그대로)
+        assertTrue(store.put("b@test.app", "444444"));
+        assertEquals(1, store.size());
+        assertTrue(store.verify("b@test.app", "444444"));
+    }
+
+//    같은 이메일은 재발급 간격 전에 다시 발급하지 않음 (기존 코드 유지)
+    @Test
+    public void resendTest() {
+        VerificationCodeStore store = new VerificationCodeStore(300, 5, 100, 30);
+        assertTrue(store.put("a@test.app", "111111"));
+        assertFalse(store.put("A@test.app", "222222"));
+        assertTrue(store.put("b@test.app", "333333"));
+        assertTrue(store.verify("a@test.app", "111111"));
+    }
+}